@@ -0,0 +1,12 @@
+package com.example.objectkeyresulttracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables background jobs such as the department score worker.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,6 +3,7 @@ package com.example.objectkeyresulttracker.config;
 import com.example.objectkeyresulttracker.security.JwtAuthenticationFilter;
 import com.example.objectkeyresulttracker.security.JwtTokenProvider;
 import com.example.objectkeyresulttracker.security.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -80,6 +81,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(List.of("http://localhost:5173", "http://localhost:3000")); // React dev servers
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(List.of("ETag"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -103,6 +105,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/export/**").permitAll() // Excel export
                         .requestMatchers("/h2-console/**").permitAll() // H2 database console
                         .requestMatchers("/error").permitAll()
+                        // Re-dispatch of a streamed response; the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 
                         // All other endpoints require authentication
                         .anyRequest().authenticated()
@@ -0,0 +1,23 @@
+package com.example.objectkeyresulttracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Refuses to start the virtual-threads profile on a runtime without virtual threads,
+ * where Spring Boot would otherwise silently fall back to platform threads.
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+    static final int REQUIRED_JAVA_VERSION = 21;
+
+    public VirtualThreadsConfig() {
+        int running = Runtime.version().feature();
+        if (running < REQUIRED_JAVA_VERSION) {
+            throw new IllegalStateException("The virtual-threads profile needs Java " + REQUIRED_JAVA_VERSION
+                    + " or newer, but this is Java " + running + "; start without the profile or on a newer runtime");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.objectkeyresulttracker.controller;
+
+import com.example.objectkeyresulttracker.dto.CacheStatisticsDTO;
+import com.example.objectkeyresulttracker.dto.DepartmentScoreRebuildResult;
+import com.example.objectkeyresulttracker.service.CacheStatisticsService;
+import com.example.objectkeyresulttracker.service.DepartmentScoreService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Administrative maintenance endpoints
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminController {
+
+    private final DepartmentScoreService departmentScoreService;
+    private final CacheStatisticsService cacheStatisticsService;
+
+    /**
+     * Recompute the precomputed scores of every department
+     */
+    @PostMapping("/department-scores/rebuild")
+    public ResponseEntity<DepartmentScoreRebuildResult> rebuildDepartmentScores() {
+        return ResponseEntity.ok(departmentScoreService.rebuildAll());
+    }
+
+    /**
+     * Second-level and query cache hit/miss statistics
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<CacheStatisticsDTO> getCacheStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.getStatistics());
+    }
+
+    /**
+     * Reset the cache statistics, e.g. before measuring a workload
+     */
+    @DeleteMapping("/cache-stats")
+    public ResponseEntity<Void> resetCacheStatistics() {
+        cacheStatisticsService.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -2,6 +2,8 @@ package com.example.objectkeyresulttracker.controller;
 
 import com.example.objectkeyresulttracker.dto.EvaluationCreateRequest;
 import com.example.objectkeyresulttracker.dto.EvaluationDTO;
+import com.example.objectkeyresulttracker.dto.KeysetPage;
+import com.example.objectkeyresulttracker.entity.EvaluatorType;
 import com.example.objectkeyresulttracker.security.UserDetailsImpl;
 import com.example.objectkeyresulttracker.service.EvaluationService;
 import lombok.RequiredArgsConstructor;
@@ -97,6 +99,19 @@ public class EvaluationController {
         return ResponseEntity.ok(evaluations);
     }
 
+    /**
+     * Keyset-paginated evaluations, optionally filtered by target type and evaluator type
+     */
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<KeysetPage<EvaluationDTO>> getEvaluationsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String targetType,
+            @RequestParam(required = false) EvaluatorType evaluatorType) {
+        return ResponseEntity.ok(evaluationService.getEvaluationsPage(cursor, size, targetType, evaluatorType));
+    }
+
     /**
      * Delete a draft evaluation
      */
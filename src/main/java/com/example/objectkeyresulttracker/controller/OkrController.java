@@ -1,18 +1,38 @@
 package com.example.objectkeyresulttracker.controller;
 
 
+import com.example.objectkeyresulttracker.dto.ActualValueBatchResult;
+import com.example.objectkeyresulttracker.dto.ActualValueUpdate;
 import com.example.objectkeyresulttracker.dto.DepartmentDTO;
+import com.example.objectkeyresulttracker.dto.DepartmentInclude;
+import com.example.objectkeyresulttracker.dto.DepartmentSummaryDTO;
+import com.example.objectkeyresulttracker.dto.ExcelImportResult;
+import com.example.objectkeyresulttracker.dto.KeysetPage;
 import com.example.objectkeyresulttracker.dto.ObjectiveDTO;
 import com.example.objectkeyresulttracker.dto.KeyResultDTO;
 import com.example.objectkeyresulttracker.service.OkrService;
 import com.example.objectkeyresulttracker.service.ExcelExportService;
+import com.example.objectkeyresulttracker.service.ExcelImportService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.multipart.MultipartFile;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
+@Slf4j
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
@@ -21,17 +41,81 @@ public class OkrController {
 
     private final OkrService okrService;
     private final ExcelExportService excelExportService;
+    private final ExcelImportService excelImportService;
+    private final ObjectMapper objectMapper;
 
     // ==================== DEPARTMENTS ====================
 
+    /**
+     * All departments, written to the response one at a time as they are scored.
+     * {@code include} limits what is loaded, e.g. {@code include=evaluations} for names and final scores only.
+     * Answers 304 without loading anything when If-None-Match carries the current tag.
+     * The 200 status goes out with the first flushed departments, so a failure after that is logged and
+     * the connection aborted without closing the array or the chunked body; clients must treat a body
+     * that ends early as an error, never as a shorter list. A failure before anything was flushed answers 500.
+     */
     @GetMapping("/departments")
-    public ResponseEntity<List<DepartmentDTO>> getAllDepartments() {
-        return ResponseEntity.ok(okrService.getAllDepartments());
+    public ResponseEntity<StreamingResponseBody> getAllDepartments(
+            @RequestParam(required = false) String include, WebRequest request) {
+        Set<DepartmentInclude> parts = DepartmentInclude.parse(include);
+        String etag = okrService.getDepartmentsETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        StreamingResponseBody body = out -> {
+            // Not try-with-resources: closing the generator would write the missing ']' after a failure
+            JsonGenerator generator = objectMapper.createGenerator(out);
+            try {
+                generator.writeStartArray();
+                okrService.streamAllDepartments(parts, generator::writePOJO);
+                generator.writeEndArray();
+            } catch (RuntimeException e) {
+                log.error("Streaming departments failed; aborting the response", e);
+                // Checked and without a cause, so no exception handler writes an error body into a committed
+                // response: the container drops the connection, or sends a 500 if nothing was flushed yet
+                throw new IOException("Department stream aborted");
+            }
+            generator.close();
+        };
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * Keyset-paginated departments; pass the returned nextCursor as cursor for the next page
+     */
+    @GetMapping("/departments/page")
+    public ResponseEntity<KeysetPage<DepartmentDTO>> getDepartmentsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String namePrefix,
+            @RequestParam(required = false) String level) {
+        return ResponseEntity.ok(okrService.getDepartmentsPage(cursor, size, namePrefix, level));
+    }
+
+    /**
+     * Id, name, scores and evaluation flags of every department, without objectives or key results
+     */
+    @GetMapping("/departments/summary")
+    public ResponseEntity<List<DepartmentSummaryDTO>> getDepartmentSummaries(WebRequest request) {
+        String etag = okrService.getDepartmentsETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(okrService.getDepartmentSummaries());
     }
 
     @GetMapping("/departments/{id}")
-    public ResponseEntity<DepartmentDTO> getDepartment(@PathVariable String id) {
-        return ResponseEntity.ok(okrService.getDepartment(id));
+    public ResponseEntity<DepartmentDTO> getDepartment(
+            @PathVariable UUID id, @RequestParam(required = false) String include, WebRequest request) {
+        Set<DepartmentInclude> parts = DepartmentInclude.parse(include);
+        String etag = okrService.getDepartmentETag(id);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(okrService.getDepartment(id, parts));
     }
 
     @PostMapping("/departments")
@@ -41,18 +125,18 @@ public class OkrController {
 
     @PutMapping("/departments/{id}")
     public ResponseEntity<DepartmentDTO> updateDepartment(
-            @PathVariable String id, @RequestBody DepartmentDTO dto) {
+            @PathVariable UUID id, @RequestBody DepartmentDTO dto) {
         return ResponseEntity.ok(okrService.updateDepartment(id, dto));
     }
 
     @DeleteMapping("/departments/{id}")
-    public ResponseEntity<Void> deleteDepartment(@PathVariable String id) {
+    public ResponseEntity<Void> deleteDepartment(@PathVariable UUID id) {
         okrService.deleteDepartment(id);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/departments/{id}/scores")
-    public ResponseEntity<com.example.objectkeyresulttracker.dto.DepartmentScoreResult> getDepartmentScores(@PathVariable String id) {
+    public ResponseEntity<com.example.objectkeyresulttracker.dto.DepartmentScoreResult> getDepartmentScores(@PathVariable UUID id) {
         return ResponseEntity.ok(okrService.getDepartmentScoreWithEvaluations(id));
     }
 
@@ -60,18 +144,18 @@ public class OkrController {
 
     @PostMapping("/departments/{departmentId}/objectives")
     public ResponseEntity<ObjectiveDTO> createObjective(
-            @PathVariable String departmentId, @RequestBody ObjectiveDTO dto) {
+            @PathVariable UUID departmentId, @RequestBody ObjectiveDTO dto) {
         return ResponseEntity.ok(okrService.createObjective(departmentId, dto));
     }
 
     @PutMapping("/objectives/{id}")
     public ResponseEntity<ObjectiveDTO> updateObjective(
-            @PathVariable String id, @RequestBody ObjectiveDTO dto) {
+            @PathVariable UUID id, @RequestBody ObjectiveDTO dto) {
         return ResponseEntity.ok(okrService.updateObjective(id, dto));
     }
 
     @DeleteMapping("/objectives/{id}")
-    public ResponseEntity<Void> deleteObjective(@PathVariable String id) {
+    public ResponseEntity<Void> deleteObjective(@PathVariable UUID id) {
         okrService.deleteObjective(id);
         return ResponseEntity.noContent().build();
     }
@@ -80,24 +164,33 @@ public class OkrController {
 
     @PostMapping("/objectives/{objectiveId}/key-results")
     public ResponseEntity<KeyResultDTO> createKeyResult(
-            @PathVariable String objectiveId, @RequestBody KeyResultDTO dto) {
+            @PathVariable UUID objectiveId, @RequestBody KeyResultDTO dto) {
         return ResponseEntity.ok(okrService.createKeyResult(objectiveId, dto));
     }
 
     @PutMapping("/key-results/{id}")
     public ResponseEntity<KeyResultDTO> updateKeyResult(
-            @PathVariable String id, @RequestBody KeyResultDTO dto) {
+            @PathVariable UUID id, @RequestBody KeyResultDTO dto) {
         return ResponseEntity.ok(okrService.updateKeyResult(id, dto));
     }
 
     @PutMapping("/key-results/{id}/actual-value")
     public ResponseEntity<KeyResultDTO> updateKeyResultActualValue(
-            @PathVariable String id, @RequestBody java.util.Map<String, String> payload) {
+            @PathVariable UUID id, @RequestBody java.util.Map<String, String> payload) {
         return ResponseEntity.ok(okrService.updateKeyResultActualValue(id, payload.get("actualValue")));
     }
 
+    /**
+     * Update the actual values of many key results in one transaction, with a status per item
+     */
+    @PostMapping("/key-results/actual-values:batch")
+    public ResponseEntity<ActualValueBatchResult> updateKeyResultActualValues(
+            @RequestBody List<ActualValueUpdate> updates) {
+        return ResponseEntity.ok(okrService.updateKeyResultActualValues(updates));
+    }
+
     @DeleteMapping("/key-results/{id}")
-    public ResponseEntity<Void> deleteKeyResult(@PathVariable String id) {
+    public ResponseEntity<Void> deleteKeyResult(@PathVariable UUID id) {
         okrService.deleteKeyResult(id);
         return ResponseEntity.noContent().build();
     }
@@ -124,6 +217,26 @@ public class OkrController {
         }
     }
 
+    // ==================== IMPORT ====================
+
+    /**
+     * Apply the "Факт" column of an edited export; rows that could not be applied are listed in errors
+     */
+    @PostMapping(value = "/import/excel", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ExcelImportResult> importFromExcel(@RequestParam("file") MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Excel file is empty");
+        }
+        // Parsed from disk so the upload is never held in memory as a whole
+        File xlsx = Files.createTempFile("okr-import", ".xlsx").toFile();
+        try {
+            file.transferTo(xlsx);
+            return ResponseEntity.ok(excelImportService.importActualValues(xlsx));
+        } finally {
+            Files.deleteIfExists(xlsx.toPath());
+        }
+    }
+
     // ==================== DEMO DATA ====================
 
     @PostMapping("/demo/load")
@@ -0,0 +1,24 @@
+package com.example.objectkeyresulttracker.controller;
+
+import com.example.objectkeyresulttracker.dto.OrgScoreDTO;
+import com.example.objectkeyresulttracker.service.OrgScoreService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/org")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "${app.cors.allowed-origins}")
+public class OrgController {
+
+    private final OrgScoreService orgScoreService;
+
+    /**
+     * Organisation score rollup with a summary per department (no objective trees)
+     */
+    @GetMapping("/score")
+    public ResponseEntity<OrgScoreDTO> getOrgScore() {
+        return ResponseEntity.ok(orgScoreService.getOrgScore());
+    }
+}
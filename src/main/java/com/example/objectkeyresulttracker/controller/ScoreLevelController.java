@@ -4,6 +4,7 @@ import com.example.objectkeyresulttracker.dto.ScoreLevelDTO;
 import com.example.objectkeyresulttracker.service.ScoreLevelService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,8 +19,12 @@ public class ScoreLevelController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ScoreLevelDTO>> getAllScoreLevels() {
-        return ResponseEntity.ok(scoreLevelService.getAllScoreLevels());
+    public ResponseEntity<List<ScoreLevelDTO>> getAllScoreLevels(WebRequest request) {
+        String etag = scoreLevelService.getScoreLevelsETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(scoreLevelService.getAllScoreLevels());
     }
 
     @PutMapping
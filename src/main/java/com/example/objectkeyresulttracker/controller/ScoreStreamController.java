@@ -0,0 +1,27 @@
+package com.example.objectkeyresulttracker.controller;
+
+import com.example.objectkeyresulttracker.service.ScoreStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Controller for the live score change feed
+ */
+@RestController
+@RequestMapping("/api/stream")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "${app.cors.allowed-origins}")
+public class ScoreStreamController {
+
+    private final ScoreStreamService scoreStreamService;
+
+    /**
+     * Server-Sent Events: key-result, department-score, evaluation and department events
+     */
+    @GetMapping(value = "/scores", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScores() {
+        return scoreStreamService.subscribe();
+    }
+}
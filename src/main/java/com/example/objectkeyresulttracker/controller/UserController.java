@@ -0,0 +1,35 @@
+package com.example.objectkeyresulttracker.controller;
+
+import com.example.objectkeyresulttracker.dto.KeysetPage;
+import com.example.objectkeyresulttracker.dto.UserDTO;
+import com.example.objectkeyresulttracker.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Controller for user listing endpoints
+ */
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "${app.cors.allowed-origins}")
+public class UserController {
+
+    private final UserService userService;
+
+    /**
+     * Keyset-paginated users ordered by username, optionally limited to one department
+     */
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<KeysetPage<UserDTO>> getUsersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) UUID departmentId) {
+        return ResponseEntity.ok(userService.getUsersPage(cursor, size, departmentId));
+    }
+}
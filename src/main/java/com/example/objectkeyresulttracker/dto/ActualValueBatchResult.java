@@ -0,0 +1,40 @@
+package com.example.objectkeyresulttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import java.util.UUID;
+
+/**
+ * Outcome of a batch actual-value update, with one entry per submitted item in request order
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActualValueBatchResult {
+    private Integer updated;
+    private Integer failed;
+    private Integer departmentsAffected;   // Departments whose scores are recomputed
+    private List<Item> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private UUID id;
+        private Status status;
+        private String message;   // Reason when the item was not applied
+    }
+
+    public enum Status {
+        UPDATED,
+        NOT_FOUND,
+        INVALID
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.objectkeyresulttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * New actual value for one key result in a batch update
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActualValueUpdate {
+    private UUID id;
+    private String actualValue;
+}
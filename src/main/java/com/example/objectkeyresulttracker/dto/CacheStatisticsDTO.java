@@ -0,0 +1,37 @@
+package com.example.objectkeyresulttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level and query cache statistics since startup (or the last reset)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatisticsDTO {
+    private Long secondLevelCacheHits;
+    private Long secondLevelCacheMisses;
+    private Long secondLevelCachePuts;
+    private Long queryCacheHits;
+    private Long queryCacheMisses;
+    private Long queryCachePuts;
+    private List<Region> regions;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        private String name;
+        private Long hits;
+        private Long misses;
+        private Long puts;
+        private Long elementsInMemory;   // Negative when the provider does not report it
+    }
+}
@@ -9,7 +9,7 @@ import java.util.*;
 @AllArgsConstructor
 @Builder
 public class DepartmentDTO {
-    private String id;
+    private UUID id;
     private String name;
     private List<ObjectiveDTO> objectives;
     private ScoreResult score; // Automatic OKR score (computed from key results)
@@ -0,0 +1,52 @@
+package com.example.objectkeyresulttracker.dto;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Optional parts of a department representation, selected with {@code ?include=objectives,keyResults,evaluations}.
+ * Id, name and the automatic OKR score are always present; parts that are not included are null
+ * and are neither loaded nor scored: without {@code evaluations} no evaluation is read, and a
+ * department whose scores are not cached yet is scored from its objectives alone.
+ */
+public enum DepartmentInclude {
+    OBJECTIVES("objectives"),
+    KEY_RESULTS("keyResults"),
+    EVALUATIONS("evaluations");
+
+    private final String param;
+
+    DepartmentInclude(String param) {
+        this.param = param;
+    }
+
+    public static Set<DepartmentInclude> all() {
+        return EnumSet.allOf(DepartmentInclude.class);
+    }
+
+    /**
+     * Parse a comma-separated include parameter; a missing parameter includes everything.
+     * Key results imply their objectives.
+     */
+    public static Set<DepartmentInclude> parse(String include) {
+        if (include == null) {
+            return all();
+        }
+        Set<DepartmentInclude> parts = EnumSet.noneOf(DepartmentInclude.class);
+        for (String token : include.split(",")) {
+            String name = token.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            parts.add(EnumSet.allOf(DepartmentInclude.class).stream()
+                    .filter(part -> part.param.equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Unknown include '" + name + "', expected objectives, keyResults or evaluations")));
+        }
+        if (parts.contains(KEY_RESULTS)) {
+            parts.add(OBJECTIVES);
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.objectkeyresulttracker.dto;
+
+import java.util.UUID;
+
+/**
+ * Flat department row read by a constructor-expression query, without entity hydration
+ */
+public record DepartmentRow(UUID id, String name) {
+}
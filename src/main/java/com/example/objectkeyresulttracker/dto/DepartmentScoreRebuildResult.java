@@ -0,0 +1,20 @@
+package com.example.objectkeyresulttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a full department score rebuild
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentScoreRebuildResult {
+    private Integer departments;   // Score rows considered
+    private Integer recomputed;    // Rows saved with fresh scores
+    private Integer parallelism;   // Worker threads used
+    private Long durationMs;
+}
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class DepartmentScoreResult {
     // Automatic OKR (60% weight)
     private Double automaticOkrScore;        // 3.0-5.0
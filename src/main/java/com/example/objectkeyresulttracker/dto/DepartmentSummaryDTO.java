@@ -0,0 +1,26 @@
+package com.example.objectkeyresulttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Department scores without the objective tree
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DepartmentSummaryDTO {
+    private UUID id;
+    private String name;
+    private ScoreResult score;          // Automatic OKR score
+    private ScoreResult finalScore;     // Final combined score (null until Director and HR evaluations exist)
+    private Boolean hasAllEvaluations;
+    private Boolean hasDirectorEvaluation;
+    private Boolean hasHrEvaluation;
+    private Boolean hasBusinessBlockEvaluation;
+}
@@ -0,0 +1,30 @@
+package com.example.objectkeyresulttracker.dto;
+
+import java.util.UUID;
+
+/**
+ * Department joined with its department_scores row, read by a constructor-expression query.
+ * Score columns are null when the department has no score row yet.
+ */
+public record DepartmentSummaryRow(UUID id,
+                                   String name,
+                                   Boolean dirty,
+                                   Double automaticOkrScore,
+                                   Double automaticOkrPercentage,
+                                   String automaticOkrLevel,
+                                   String automaticOkrColor,
+                                   Double finalCombinedScore,
+                                   Double finalPercentage,
+                                   String scoreLevel,
+                                   String color,
+                                   Boolean hasDirectorEvaluation,
+                                   Boolean hasHrEvaluation,
+                                   Boolean hasBusinessBlockEvaluation) {
+
+    /**
+     * True if the precomputed scores reflect every committed change
+     */
+    public boolean isCurrent() {
+        return Boolean.FALSE.equals(dirty);
+    }
+}
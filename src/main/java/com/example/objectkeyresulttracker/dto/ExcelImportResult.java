@@ -0,0 +1,35 @@
+package com.example.objectkeyresulttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import java.util.UUID;
+
+/**
+ * Outcome of an Excel actual-value import; errors carry the 1-based sheet row they came from
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExcelImportResult {
+    private Integer rowsRead;
+    private Integer updated;
+    private Integer unchanged;   // Rows still holding what the export wrote for the stored value
+    private Integer failed;
+    private List<RowError> errors;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private Integer row;
+        private UUID keyResultId;
+        private String message;
+    }
+}
@@ -4,12 +4,14 @@ package com.example.objectkeyresulttracker.dto;
 import com.example.objectkeyresulttracker.entity.KeyResult.MetricType;
 import lombok.*;
 
+import java.util.UUID;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class KeyResultDTO {
-    private String id;
+    private UUID id;
     private String name;
     private String description;
     private MetricType metricType;
@@ -17,7 +19,7 @@ public class KeyResultDTO {
     private Integer weight;
     private ThresholdDTO thresholds;
     private String actualValue;
-    private String objectiveId;
+    private UUID objectiveId;
     private ScoreResult score; // Computed field
 }
 
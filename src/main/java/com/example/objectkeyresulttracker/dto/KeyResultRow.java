@@ -0,0 +1,23 @@
+package com.example.objectkeyresulttracker.dto;
+
+import com.example.objectkeyresulttracker.entity.KeyResult.MetricType;
+
+import java.util.UUID;
+
+/**
+ * Flat key result row read by a constructor-expression query, without entity hydration
+ */
+public record KeyResultRow(UUID id,
+                           UUID objectiveId,
+                           String name,
+                           String description,
+                           MetricType metricType,
+                           String unit,
+                           Integer weight,
+                           Double thresholdBelow,
+                           Double thresholdMeets,
+                           Double thresholdGood,
+                           Double thresholdVeryGood,
+                           Double thresholdExceptional,
+                           String actualValue) {
+}
@@ -9,10 +9,10 @@ import java.util.*;
 @AllArgsConstructor
 @Builder
 public class ObjectiveDTO {
-    private String id;
+    private UUID id;
     private String name;
     private Integer weight;
-    private String departmentId;
+    private UUID departmentId;
     private List<KeyResultDTO> keyResults;
     private ScoreResult score; // Computed field
 }
\ No newline at end of file
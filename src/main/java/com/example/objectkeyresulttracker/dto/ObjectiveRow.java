@@ -0,0 +1,9 @@
+package com.example.objectkeyresulttracker.dto;
+
+import java.util.UUID;
+
+/**
+ * Flat objective row read by a constructor-expression query, without entity hydration
+ */
+public record ObjectiveRow(UUID id, UUID departmentId, String name, Integer weight) {
+}
@@ -0,0 +1,24 @@
+package com.example.objectkeyresulttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Organisation-wide score rollup
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrgScoreDTO {
+    private ScoreResult score;          // Average of department display scores (final score if available, otherwise OKR score)
+    private ScoreResult okrScore;       // Average of department automatic OKR scores
+    private ScoreResult finalScore;     // Average of department final combined scores (null if no department has one)
+    private Integer departmentCount;
+    private Integer evaluatedDepartmentCount; // Departments with a final combined score
+    private List<DepartmentSummaryDTO> departments;
+}
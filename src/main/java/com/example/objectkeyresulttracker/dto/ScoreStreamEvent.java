@@ -0,0 +1,30 @@
+package com.example.objectkeyresulttracker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Payload of one score stream event. The SSE event name tells which fields are set;
+ * absent fields are left out of the JSON to keep events small.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScoreStreamEvent {
+    private UUID departmentId;
+    private UUID objectiveId;
+    private UUID keyResultId;
+    private String targetType;       // Evaluation target: DEPARTMENT or EMPLOYEE
+    private UUID targetId;
+    private ScoreResult keyResultScore;
+    private ScoreResult objectiveScore;
+    private ScoreResult departmentScore; // Automatic OKR score
+    private ScoreResult finalScore;      // Combined score including evaluations
+}
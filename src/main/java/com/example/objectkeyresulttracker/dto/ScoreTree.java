@@ -0,0 +1,42 @@
+package com.example.objectkeyresulttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Memoized scores for a department (or a single objective) tree.
+ * Every key result, objective and department score is computed exactly once
+ * by ScoreCalculationService and then read by the DTO mappers.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScoreTree {
+    private UUID departmentId;
+
+    // Key result scores by key result id
+    @Builder.Default
+    private Map<UUID, ScoreResult> keyResultScores = new HashMap<>();
+
+    // Objective scores by objective id
+    @Builder.Default
+    private Map<UUID, ScoreResult> objectiveScores = new HashMap<>();
+
+    private ScoreResult departmentScore;                 // Automatic OKR score (null for objective-only trees)
+    private DepartmentScoreResult scoreWithEvaluations;  // Combined score (null for objective-only trees)
+
+    public ScoreResult getKeyResultScore(UUID keyResultId) {
+        return keyResultScores.get(keyResultId);
+    }
+
+    public ScoreResult getObjectiveScore(UUID objectiveId) {
+        return objectiveScores.get(objectiveId);
+    }
+}
@@ -21,6 +21,6 @@ public class UserDTO {
     private String email;
     private String fullName;
     private Role role;
-    private String departmentId;
+    private UUID departmentId;
     private String departmentName;
 }
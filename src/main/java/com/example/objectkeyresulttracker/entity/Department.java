@@ -1,11 +1,18 @@
 package com.example.objectkeyresulttracker.entity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.*;
 @Entity
-@Table(name = "department")
+@Table(name = "department", indexes = {
+        // Keyset pagination and name prefix filtering
+        @Index(name = "idx_department_name_id", columnList = "name, id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "departments")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -13,7 +20,7 @@ import java.util.*;
 public class Department {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    private UUID id;
 
     @Column(nullable = false)
     private String name;
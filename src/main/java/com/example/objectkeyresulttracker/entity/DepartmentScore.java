@@ -0,0 +1,81 @@
+package com.example.objectkeyresulttracker.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Precomputed scores of a department (read model).
+ * Rows are marked dirty in the same transaction as any change that affects the scores
+ * and recomputed in the background by {@code DepartmentScoreService.recomputeDirtyDepartments}.
+ */
+@Entity
+@Table(name = "department_scores")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DepartmentScore {
+
+    @Id
+    @Column(name = "department_id")
+    private UUID departmentId;
+
+    // Automatic OKR score
+    private Double automaticOkrScore;
+    private Double automaticOkrPercentage;
+    private String automaticOkrLevel;
+    private String automaticOkrColor;
+
+    // Director evaluation
+    private Double directorEvaluation;
+    private Integer directorStars;
+    @Column(columnDefinition = "TEXT")
+    private String directorComment;
+
+    // HR evaluation
+    private String hrEvaluationLetter;
+    private Double hrEvaluationNumeric;
+    @Column(columnDefinition = "TEXT")
+    private String hrComment;
+
+    // Business Block evaluation
+    private Double businessBlockEvaluation;
+    private Integer businessBlockStars;
+    @Column(columnDefinition = "TEXT")
+    private String businessBlockComment;
+
+    // Combined final score
+    private Double finalCombinedScore;
+    private Double finalPercentage;
+    private String scoreLevel;
+    private String color;
+
+    private Boolean hasDirectorEvaluation;
+    private Boolean hasHrEvaluation;
+    private Boolean hasBusinessBlockEvaluation;
+
+    /**
+     * Whether the scores are outdated and waiting for recomputation
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean dirty = true;
+
+    /**
+     * When the scores were last recomputed (null if never)
+     */
+    private LocalDateTime computedAt;
+
+    /**
+     * Incremented by every recomputation and every dirty mark,
+     * so a recomputation racing with a newer change is not saved
+     */
+    @Version
+    private Long version;
+}
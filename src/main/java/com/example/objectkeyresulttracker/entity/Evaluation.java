@@ -14,7 +14,17 @@ import java.util.UUID;
  * Supports multiple evaluator types (Director, HR, Business Block) with different rating scales.
  */
 @Entity
-@Table(name = "evaluations")
+@Table(name = "evaluations", indexes = {
+        // Submitted evaluations of a target
+        @Index(name = "idx_evaluations_target_status", columnList = "target_type, target_id, status"),
+        @Index(name = "idx_evaluations_evaluator", columnList = "evaluator_id"),
+        // Keyset pagination filtered by target and evaluator type
+        @Index(name = "idx_evaluations_type_evaluator_id", columnList = "target_type, evaluator_type, id")
+}, uniqueConstraints = {
+        // One evaluation per evaluator, target and evaluator type
+        @UniqueConstraint(name = "uk_evaluations_evaluator_target",
+                columnNames = {"evaluator_id", "target_type", "target_id", "evaluator_type"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
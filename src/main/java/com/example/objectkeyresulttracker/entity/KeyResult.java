@@ -2,6 +2,8 @@ package com.example.objectkeyresulttracker.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.UUID;
+
 @Entity
 @Table(name = "key_results")
 @Data
@@ -11,7 +13,7 @@ import lombok.*;
 public class KeyResult {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    private UUID id;
 
     @Column(nullable = false)
     private String name;
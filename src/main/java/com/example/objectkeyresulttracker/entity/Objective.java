@@ -12,7 +12,7 @@ import java.util.*;
 public class Objective {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    private UUID id;
 
     @Column(nullable = false)
     private String name;
@@ -2,9 +2,13 @@ package com.example.objectkeyresulttracker.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "score_levels")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "scoreLevels")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
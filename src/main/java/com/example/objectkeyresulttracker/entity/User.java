@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -14,7 +16,12 @@ import java.util.UUID;
  * Users have roles that determine their permissions and evaluation capabilities.
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // Keyset pagination of a department's users
+        @Index(name = "idx_users_department_username", columnList = "department_id, username")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,19 @@
+package com.example.objectkeyresulttracker.event;
+
+import java.util.UUID;
+
+/**
+ * Published when objectives, key results or the department itself change in a way
+ * that affects department scores. A null department id means every department.
+ * Listeners react after the surrounding transaction commits.
+ */
+public record DepartmentChangedEvent(UUID departmentId) {
+
+    public static DepartmentChangedEvent allDepartments() {
+        return new DepartmentChangedEvent(null);
+    }
+
+    public boolean affectsAllDepartments() {
+        return departmentId == null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.objectkeyresulttracker.event;
+
+import com.example.objectkeyresulttracker.dto.DepartmentScoreResult;
+
+import java.util.UUID;
+
+/**
+ * Published after the department_scores worker has saved freshly recomputed scores for a department.
+ */
+public record DepartmentScoreRecomputedEvent(UUID departmentId, DepartmentScoreResult scores) {
+}
@@ -0,0 +1,10 @@
+package com.example.objectkeyresulttracker.event;
+
+import java.util.UUID;
+
+/**
+ * Published when an evaluation is created, updated, submitted or deleted.
+ * Listeners react after the surrounding transaction commits.
+ */
+public record EvaluationChangedEvent(String targetType, UUID targetId) {
+}
@@ -0,0 +1,18 @@
+package com.example.objectkeyresulttracker.event;
+
+import com.example.objectkeyresulttracker.dto.ScoreTree;
+
+import java.util.UUID;
+
+/**
+ * Published when the actual value of a department key result is updated.
+ * Carries the department scores recomputed for the change, based on the
+ * score store state at {@code stamp} and the score level version they were computed with.
+ */
+public record KeyResultActualValueChangedEvent(UUID departmentId,
+                                               UUID objectiveId,
+                                               UUID keyResultId,
+                                               long stamp,
+                                               long levelVersion,
+                                               ScoreTree scores) {
+}
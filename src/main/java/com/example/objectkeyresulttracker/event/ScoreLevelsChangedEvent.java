@@ -0,0 +1,8 @@
+package com.example.objectkeyresulttracker.event;
+
+/**
+ * Published when the score level configuration is replaced or reset.
+ * Listeners react after the surrounding transaction commits.
+ */
+public record ScoreLevelsChangedEvent() {
+}
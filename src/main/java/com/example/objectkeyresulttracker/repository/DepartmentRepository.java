@@ -1,10 +1,88 @@
 package com.example.objectkeyresulttracker.repository;
 
 
+import com.example.objectkeyresulttracker.dto.DepartmentRow;
+import com.example.objectkeyresulttracker.dto.DepartmentSummaryRow;
 import com.example.objectkeyresulttracker.entity.Department;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 @Repository
-public interface DepartmentRepository extends JpaRepository<Department, String> {
-}
\ No newline at end of file
+public interface DepartmentRepository extends JpaRepository<Department, UUID> {
+
+    /**
+     * Load all departments with their objectives in a single query.
+     * Key results are initialised by {@link ObjectiveRepository#fetchAllDepartmentObjectivesWithKeyResults()}.
+     */
+    @Query("select distinct d from Department d left join fetch d.objectives")
+    List<Department> findAllWithObjectives();
+
+    /**
+     * Load a single department with its objectives in a single query.
+     */
+    @Query("select d from Department d left join fetch d.objectives where d.id = :id")
+    Optional<Department> findByIdWithObjectives(@Param("id") UUID id);
+
+    /**
+     * Load a batch of departments with their objectives in a single query.
+     */
+    @Query("select distinct d from Department d left join fetch d.objectives where d.id in :ids")
+    List<Department> findAllWithObjectivesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Read every department as a flat row, without loading entities into the persistence context.
+     */
+    @Query("select new com.example.objectkeyresulttracker.dto.DepartmentRow(d.id, d.name) from Department d")
+    List<DepartmentRow> findAllRows();
+
+    /**
+     * Read the given departments as flat rows.
+     */
+    @Query("select new com.example.objectkeyresulttracker.dto.DepartmentRow(d.id, d.name) from Department d where d.id in :ids")
+    List<DepartmentRow> findRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Every department with its precomputed scores, in one query and without entity hydration.
+     */
+    @Query("select new com.example.objectkeyresulttracker.dto.DepartmentSummaryRow(" +
+            "d.id, d.name, s.dirty, s.automaticOkrScore, s.automaticOkrPercentage, s.automaticOkrLevel, " +
+            "s.automaticOkrColor, s.finalCombinedScore, s.finalPercentage, s.scoreLevel, s.color, " +
+            "s.hasDirectorEvaluation, s.hasHrEvaluation, s.hasBusinessBlockEvaluation) " +
+            "from Department d left join DepartmentScore s on s.departmentId = d.id " +
+            "order by d.name, d.id")
+    List<DepartmentSummaryRow> findSummaryRows();
+
+    /**
+     * Keyset page of departments ordered by name and id, starting after ({@code afterName}, {@code afterId}).
+     * Null filters and a null {@code afterName} are ignored. The score level filter reads the
+     * precomputed department_scores rows.
+     */
+    @Query("select new com.example.objectkeyresulttracker.dto.DepartmentRow(d.id, d.name) from Department d " +
+            "where (:namePattern is null or d.name like :namePattern escape '\\') " +
+            "and (:level is null or exists (select s from DepartmentScore s where s.departmentId = d.id and s.scoreLevel = :level)) " +
+            "and (:afterName is null or d.name > :afterName or (d.name = :afterName and d.id > :afterId)) " +
+            "order by d.name, d.id")
+    List<DepartmentRow> findPage(@Param("namePattern") String namePattern,
+                                 @Param("level") String level,
+                                 @Param("afterName") String afterName,
+                                 @Param("afterId") UUID afterId,
+                                 Limit limit);
+
+    /**
+     * Delete a department row in one statement, bypassing entity cascades.
+     * Its objectives, key results and user assignments must be removed first.
+     * Clears the persistence context so no stale tree entities are reused.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Department d where d.id = :id")
+    int deleteRowById(@Param("id") UUID id);
+}
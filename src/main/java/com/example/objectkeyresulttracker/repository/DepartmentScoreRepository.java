@@ -0,0 +1,51 @@
+package com.example.objectkeyresulttracker.repository;
+
+import com.example.objectkeyresulttracker.entity.DepartmentScore;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DepartmentScoreRepository extends JpaRepository<DepartmentScore, UUID> {
+
+    /**
+     * Oldest dirty rows first, so every department eventually gets recomputed
+     */
+    @Query("select s from DepartmentScore s where s.dirty = true order by s.computedAt asc nulls first, s.departmentId")
+    List<DepartmentScore> findDirty(Pageable pageable);
+
+    /**
+     * Mark one department dirty. Bumps the version so a concurrent recomputation is discarded.
+     *
+     * @return number of rows updated (0 if the department has no row yet)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update DepartmentScore s set s.dirty = true, s.version = s.version + 1 where s.departmentId = :departmentId")
+    int markDirty(@Param("departmentId") UUID departmentId);
+
+    /**
+     * Mark every department dirty
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update DepartmentScore s set s.dirty = true, s.version = s.version + 1")
+    int markAllDirty();
+
+    /**
+     * Ids of departments that do not have a score row yet
+     */
+    @Query("select d.id from Department d where not exists (select s from DepartmentScore s where s.departmentId = d.id)")
+    List<UUID> findDepartmentIdsWithoutScores();
+
+    /**
+     * Remove rows of departments that no longer exist
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from DepartmentScore s where not exists (select d from Department d where d.id = s.departmentId)")
+    int deleteOrphans();
+}
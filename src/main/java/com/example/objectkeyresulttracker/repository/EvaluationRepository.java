@@ -4,9 +4,14 @@ import com.example.objectkeyresulttracker.entity.Evaluation;
 import com.example.objectkeyresulttracker.entity.EvaluationStatus;
 import com.example.objectkeyresulttracker.entity.EvaluatorType;
 import com.example.objectkeyresulttracker.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -81,4 +86,48 @@ public interface EvaluationRepository extends JpaRepository<Evaluation, UUID> {
             UUID targetId,
             EvaluationStatus status
     );
+
+    /**
+     * Find all submitted evaluations for a set of targets in a single query
+     *
+     * @param targetType the type of target
+     * @param targetIds the IDs of the targets
+     * @param status the status to filter by
+     * @return list of evaluations
+     */
+    List<Evaluation> findByTargetTypeAndTargetIdInAndStatus(
+            String targetType,
+            Collection<UUID> targetIds,
+            EvaluationStatus status
+    );
+
+    /**
+     * Keyset page of evaluations with their evaluators, ordered by id and starting after {@code afterId}
+     *
+     * @param targetType the type of target, or null for all
+     * @param evaluatorType the type of evaluator, or null for all
+     * @param afterId id of the last evaluation of the previous page, or null for the first page
+     * @param limit the maximum number of evaluations
+     * @return list of evaluations
+     */
+    @Query("select e from Evaluation e join fetch e.evaluator " +
+            "where (:targetType is null or e.targetType = :targetType) " +
+            "and (:evaluatorType is null or e.evaluatorType = :evaluatorType) " +
+            "and (:afterId is null or e.id > :afterId) " +
+            "order by e.id")
+    List<Evaluation> findPage(@Param("targetType") String targetType,
+                              @Param("evaluatorType") EvaluatorType evaluatorType,
+                              @Param("afterId") UUID afterId,
+                              Limit limit);
+
+    /**
+     * Delete all evaluations of a target in one statement, without loading them
+     *
+     * @param targetType the type of target
+     * @param targetId the ID of the target
+     * @return number of deleted evaluations
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Evaluation e where e.targetType = :targetType and e.targetId = :targetId")
+    int deleteByTarget(@Param("targetType") String targetType, @Param("targetId") UUID targetId);
 }
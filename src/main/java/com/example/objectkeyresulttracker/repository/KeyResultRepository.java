@@ -1,13 +1,69 @@
 package com.example.objectkeyresulttracker.repository;
 
 
+import com.example.objectkeyresulttracker.dto.KeyResultRow;
 import com.example.objectkeyresulttracker.entity.KeyResult;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface KeyResultRepository extends JpaRepository<KeyResult, String> {
-    List<KeyResult> findByObjectiveId(String objectiveId);
-}
\ No newline at end of file
+public interface KeyResultRepository extends JpaRepository<KeyResult, UUID> {
+    List<KeyResult> findByObjectiveId(UUID objectiveId);
+
+    /**
+     * Load key results together with their objective and department in a single query.
+     */
+    @Query("select k from KeyResult k join fetch k.objective o left join fetch o.department where k.id in :ids")
+    List<KeyResult> findAllWithObjectiveByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * The given key results as flat rows
+     */
+    @Query("select new com.example.objectkeyresulttracker.dto.KeyResultRow(" +
+            "k.id, k.objective.id, k.name, k.description, k.metricType, k.unit, k.weight, " +
+            "k.thresholdBelow, k.thresholdMeets, k.thresholdGood, k.thresholdVeryGood, k.thresholdExceptional, " +
+            "k.actualValue) " +
+            "from KeyResult k where k.id in :ids")
+    List<KeyResultRow> findRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Stream every key result of a department objective as a flat row.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.example.objectkeyresulttracker.dto.KeyResultRow(" +
+            "k.id, k.objective.id, k.name, k.description, k.metricType, k.unit, k.weight, " +
+            "k.thresholdBelow, k.thresholdMeets, k.thresholdGood, k.thresholdVeryGood, k.thresholdExceptional, " +
+            "k.actualValue) " +
+            "from KeyResult k where k.objective.department is not null")
+    Stream<KeyResultRow> streamAllDepartmentKeyResultRows();
+
+    /**
+     * Read the key results of the given departments' objectives as flat rows.
+     */
+    @Query("select new com.example.objectkeyresulttracker.dto.KeyResultRow(" +
+            "k.id, k.objective.id, k.name, k.description, k.metricType, k.unit, k.weight, " +
+            "k.thresholdBelow, k.thresholdMeets, k.thresholdGood, k.thresholdVeryGood, k.thresholdExceptional, " +
+            "k.actualValue) " +
+            "from KeyResult k where k.objective.department.id in :departmentIds")
+    List<KeyResultRow> findKeyResultRowsByDepartmentIds(@Param("departmentIds") Collection<UUID> departmentIds);
+
+    /**
+     * Delete the key results of all objectives of a department in one statement.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from KeyResult k where k.objective.id in " +
+            "(select o.id from Objective o where o.department.id = :departmentId)")
+    int deleteByDepartmentId(@Param("departmentId") UUID departmentId);
+}
@@ -1,12 +1,59 @@
 package com.example.objectkeyresulttracker.repository;
 
+import com.example.objectkeyresulttracker.dto.ObjectiveRow;
 import com.example.objectkeyresulttracker.entity.Objective;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Repository
-public interface ObjectiveRepository extends JpaRepository<Objective, String> {
-    List<Objective> findByDepartmentId(String departmentId);
-}
\ No newline at end of file
+public interface ObjectiveRepository extends JpaRepository<Objective, UUID> {
+    List<Objective> findByDepartmentId(UUID departmentId);
+
+    /**
+     * Initialise the key results of every department objective in a single query.
+     * Used together with {@link DepartmentRepository#findAllWithObjectives()} so the
+     * whole department tree is loaded without lazy loads per objective.
+     */
+    @Query("select distinct o from Objective o left join fetch o.keyResults where o.department is not null")
+    List<Objective> fetchAllDepartmentObjectivesWithKeyResults();
+
+    /**
+     * Initialise the key results of one department's objectives in a single query.
+     */
+    @Query("select distinct o from Objective o left join fetch o.keyResults where o.department.id = :departmentId")
+    List<Objective> fetchObjectivesWithKeyResultsByDepartmentId(@Param("departmentId") UUID departmentId);
+
+    /**
+     * Initialise the key results of the objectives of a batch of departments in a single query.
+     */
+    @Query("select distinct o from Objective o left join fetch o.keyResults where o.department.id in :departmentIds")
+    List<Objective> fetchObjectivesWithKeyResultsByDepartmentIds(@Param("departmentIds") Collection<UUID> departmentIds);
+
+    /**
+     * Read every department objective as a flat row, without loading entities into the persistence context.
+     */
+    @Query("select new com.example.objectkeyresulttracker.dto.ObjectiveRow(o.id, o.department.id, o.name, o.weight) " +
+            "from Objective o where o.department is not null")
+    List<ObjectiveRow> findAllDepartmentObjectiveRows();
+
+    /**
+     * Read the objectives of the given departments as flat rows.
+     */
+    @Query("select new com.example.objectkeyresulttracker.dto.ObjectiveRow(o.id, o.department.id, o.name, o.weight) " +
+            "from Objective o where o.department.id in :departmentIds")
+    List<ObjectiveRow> findObjectiveRowsByDepartmentIds(@Param("departmentIds") Collection<UUID> departmentIds);
+
+    /**
+     * Delete the objectives of a department in one statement; their key results must be deleted first.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Objective o where o.department.id = :departmentId")
+    int deleteByDepartmentId(@Param("departmentId") UUID departmentId);
+}
@@ -1,12 +1,16 @@
 package com.example.objectkeyresulttracker.repository;
 
 import com.example.objectkeyresulttracker.entity.ScoreLevel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface ScoreLevelRepository extends JpaRepository<ScoreLevel, String> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ScoreLevel> findAllByOrderByDisplayOrderAsc();
 }
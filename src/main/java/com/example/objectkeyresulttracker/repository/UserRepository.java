@@ -1,7 +1,14 @@
 package com.example.objectkeyresulttracker.repository;
 
 import com.example.objectkeyresulttracker.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -15,11 +22,13 @@ import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID> {
 
     /**
-     * Find a user by username (used for login)
+     * Find a user by username (used for login and on every authenticated request).
+     * The result is query-cached and invalidated by any write to the users table.
      *
      * @param username the username to search for
      * @return Optional containing the user if found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
 
     /**
@@ -53,4 +62,30 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * @return list of users in the department
      */
     java.util.List<User> findByDepartment(com.example.objectkeyresulttracker.entity.Department department);
+
+    /**
+     * Keyset page of users with their departments, ordered by username and starting after {@code afterUsername}
+     *
+     * @param departmentId the department to filter by, or null for all users
+     * @param afterUsername username of the last user of the previous page, or null for the first page
+     * @param limit the maximum number of users
+     * @return list of users
+     */
+    @Query("select u from User u left join fetch u.department " +
+            "where (:departmentId is null or u.department.id = :departmentId) " +
+            "and (:afterUsername is null or u.username > :afterUsername) " +
+            "order by u.username")
+    java.util.List<User> findPage(@Param("departmentId") UUID departmentId,
+                                  @Param("afterUsername") String afterUsername,
+                                  Limit limit);
+
+    /**
+     * Unassign every user of a department in one statement
+     *
+     * @param departmentId the department being removed
+     * @return number of updated users
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update User u set u.department = null where u.department.id = :departmentId")
+    int clearDepartment(@Param("departmentId") UUID departmentId);
 }
@@ -0,0 +1,65 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.dto.CacheStatisticsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Hit and miss counters of the Hibernate second-level and query caches
+ */
+@Service
+public class CacheStatisticsService {
+
+    private final Statistics statistics;
+
+    public CacheStatisticsService(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public CacheStatisticsDTO getStatistics() {
+        List<CacheStatisticsDTO.Region> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(this::toRegion)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return CacheStatisticsDTO.builder()
+                .secondLevelCacheHits(statistics.getSecondLevelCacheHitCount())
+                .secondLevelCacheMisses(statistics.getSecondLevelCacheMissCount())
+                .secondLevelCachePuts(statistics.getSecondLevelCachePutCount())
+                .queryCacheHits(statistics.getQueryCacheHitCount())
+                .queryCacheMisses(statistics.getQueryCacheMissCount())
+                .queryCachePuts(statistics.getQueryCachePutCount())
+                .regions(regions)
+                .build();
+    }
+
+    /**
+     * Reset every Hibernate statistic, including the cache counters
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    private CacheStatisticsDTO.Region toRegion(String name) {
+        // Covers entity regions as well as the query results and update timestamps regions
+        CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+        if (region == null) {
+            return null;
+        }
+        return CacheStatisticsDTO.Region.builder()
+                .name(name)
+                .hits(region.getHitCount())
+                .misses(region.getMissCount())
+                .puts(region.getPutCount())
+                .elementsInMemory(region.getElementCountInMemory())
+                .build();
+    }
+}
@@ -0,0 +1,335 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.dto.DepartmentScoreRebuildResult;
+import com.example.objectkeyresulttracker.dto.DepartmentScoreResult;
+import com.example.objectkeyresulttracker.dto.ScoreResult;
+import com.example.objectkeyresulttracker.dto.ScoreTree;
+import com.example.objectkeyresulttracker.entity.Department;
+import com.example.objectkeyresulttracker.entity.DepartmentScore;
+import com.example.objectkeyresulttracker.event.DepartmentChangedEvent;
+import com.example.objectkeyresulttracker.event.DepartmentScoreRecomputedEvent;
+import com.example.objectkeyresulttracker.event.EvaluationChangedEvent;
+import com.example.objectkeyresulttracker.event.KeyResultActualValueChangedEvent;
+import com.example.objectkeyresulttracker.event.ScoreLevelsChangedEvent;
+import com.example.objectkeyresulttracker.repository.DepartmentRepository;
+import com.example.objectkeyresulttracker.repository.DepartmentScoreRepository;
+import com.example.objectkeyresulttracker.repository.ObjectiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Maintains the department_scores read model.
+ *
+ * Changes that affect a department's scores mark its row dirty in the same transaction,
+ * a scheduled worker recomputes dirty rows in batches, and admins can force a full parallel rebuild.
+ */
+@Slf4j
+@Service
+public class DepartmentScoreService {
+
+    private final DepartmentScoreRepository departmentScoreRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ObjectiveRepository objectiveRepository;
+    private final ScoreCalculationService scoreService;
+    private final ScoreLevelRegistry scoreLevelRegistry;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${okr.department-scores.batch-size:50}")
+    private int batchSize;
+
+    @Value("${okr.department-scores.rebuild-parallelism:0}")
+    private int rebuildParallelism;
+
+    public DepartmentScoreService(DepartmentScoreRepository departmentScoreRepository,
+                                  DepartmentRepository departmentRepository,
+                                  ObjectiveRepository objectiveRepository,
+                                  ScoreCalculationService scoreService,
+                                  ScoreLevelRegistry scoreLevelRegistry,
+                                  PlatformTransactionManager transactionManager,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.departmentScoreRepository = departmentScoreRepository;
+        this.departmentRepository = departmentRepository;
+        this.objectiveRepository = objectiveRepository;
+        this.scoreService = scoreService;
+        this.scoreLevelRegistry = scoreLevelRegistry;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+    }
+
+    // ==================== READS ====================
+
+    /**
+     * Precomputed scores of a department, if its row is present and up to date
+     */
+    @Transactional(readOnly = true)
+    public DepartmentScoreResult findCurrent(UUID departmentId) {
+        return departmentScoreRepository.findById(departmentId)
+                .filter(row -> !row.getDirty())
+                .map(this::toResult)
+                .orElse(null);
+    }
+
+    // ==================== DIRTY MARKING ====================
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        if (event.affectsAllDepartments()) {
+            departmentScoreRepository.deleteOrphans();
+            departmentScoreRepository.markAllDirty();
+            createMissingRows();
+        } else if (departmentRepository.existsById(event.departmentId())) {
+            markDirty(event.departmentId());
+        } else {
+            // Department was deleted in this transaction
+            departmentScoreRepository.findById(event.departmentId()).ifPresent(departmentScoreRepository::delete);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onKeyResultActualValueChanged(KeyResultActualValueChangedEvent event) {
+        markDirty(event.departmentId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onEvaluationChanged(EvaluationChangedEvent event) {
+        if ("DEPARTMENT".equals(event.targetType()) && event.targetId() != null) {
+            markDirty(event.targetId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onScoreLevelsChanged(ScoreLevelsChangedEvent event) {
+        departmentScoreRepository.markAllDirty();
+    }
+
+    /**
+     * Make sure every department has a score row once the application is up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createMissingRowsOnStartup() {
+        int created = writeTransaction.execute(status -> createMissingRows());
+        if (created > 0) {
+            log.info("Created {} department score rows", created);
+        }
+    }
+
+    private void markDirty(UUID departmentId) {
+        if (departmentScoreRepository.markDirty(departmentId) == 0 && departmentRepository.existsById(departmentId)) {
+            departmentScoreRepository.save(DepartmentScore.builder()
+                    .departmentId(departmentId)
+                    .build());
+        }
+    }
+
+    private int createMissingRows() {
+        List<DepartmentScore> rows = departmentScoreRepository.findDepartmentIdsWithoutScores().stream()
+                .map(id -> DepartmentScore.builder().departmentId(id).build())
+                .toList();
+        departmentScoreRepository.saveAll(rows);
+        return rows.size();
+    }
+
+    // ==================== RECOMPUTATION ====================
+
+    /**
+     * Recompute dirty departments in batches until none are left
+     */
+    @Scheduled(fixedDelayString = "${okr.department-scores.worker-delay-ms:2000}")
+    public void recomputeDirtyDepartments() {
+        List<DepartmentScore> batch;
+        int recomputed;
+        do {
+            batch = readTransaction.execute(status ->
+                    departmentScoreRepository.findDirty(PageRequest.of(0, batchSize)));
+            recomputed = recompute(batch);
+            if (recomputed > 0) {
+                log.debug("Recomputed {} of {} dirty department scores", recomputed, batch.size());
+            }
+        } while (batch.size() == batchSize && recomputed > 0);
+    }
+
+    /**
+     * Recompute every department's scores, spreading the rows over a pool of threads.
+     * Rows stay readable with their previous scores until their new scores are saved.
+     */
+    public DepartmentScoreRebuildResult rebuildAll() {
+        long start = System.currentTimeMillis();
+        writeTransaction.execute(status -> {
+            departmentScoreRepository.deleteOrphans();
+            return createMissingRows();
+        });
+        List<DepartmentScore> rows = readTransaction.execute(status -> departmentScoreRepository.findAll());
+
+        List<List<DepartmentScore>> batches = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i += batchSize) {
+            batches.add(rows.subList(i, Math.min(i + batchSize, rows.size())));
+        }
+
+        int parallelism = rebuildParallelism > 0 ? rebuildParallelism : Runtime.getRuntime().availableProcessors();
+        parallelism = Math.max(1, Math.min(parallelism, batches.size()));
+
+        int recomputed = 0;
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (List<DepartmentScore> batch : batches) {
+                results.add(pool.submit(() -> recompute(batch)));
+            }
+            for (Future<Integer> result : results) {
+                recomputed += result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Department score rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Department score rebuild failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long durationMs = System.currentTimeMillis() - start;
+        log.info("Rebuilt {} of {} department scores in {} ms using {} threads",
+                recomputed, rows.size(), durationMs, parallelism);
+
+        return DepartmentScoreRebuildResult.builder()
+                .departments(rows.size())
+                .recomputed(recomputed)
+                .parallelism(parallelism)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    /**
+     * Recompute a batch of rows: one read transaction loads and scores every department,
+     * then each row is saved on its own so a concurrent change only discards that row.
+     *
+     * @return number of rows saved
+     */
+    private int recompute(List<DepartmentScore> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        if (scoreLevelRegistry.isRefreshPending()) {
+            // Score levels are committing or not reloaded yet; scoring now would mark rows clean with the old
+            // levels. Rows read before the change carry an older version, so their save fails instead.
+            log.debug("Score level snapshot is being refreshed; leaving {} department scores dirty", rows.size());
+            return 0;
+        }
+
+        List<UUID> ids = rows.stream().map(DepartmentScore::getDepartmentId).toList();
+        Map<UUID, ScoreTree> trees = readTransaction.execute(status -> {
+            List<Department> departments = departmentRepository.findAllWithObjectivesByIdIn(ids);
+            objectiveRepository.fetchObjectivesWithKeyResultsByDepartmentIds(ids);
+            return scoreService.calculateDepartmentScoreTrees(departments);
+        });
+
+        int saved = 0;
+        for (DepartmentScore row : rows) {
+            ScoreTree tree = trees.get(row.getDepartmentId());
+            if (tree != null && save(row, tree)) {
+                saved++;
+            }
+        }
+        return saved;
+    }
+
+    private boolean save(DepartmentScore row, ScoreTree tree) {
+        try {
+            writeTransaction.executeWithoutResult(status -> {
+                apply(row, tree);
+                departmentScoreRepository.save(row);
+            });
+            eventPublisher.publishEvent(new DepartmentScoreRecomputedEvent(row.getDepartmentId(), tree.getScoreWithEvaluations()));
+            return true;
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // Marked dirty again (or recomputed elsewhere) while we were scoring; the next round picks it up
+            log.debug("Department score {} changed during recomputation", row.getDepartmentId());
+            return false;
+        }
+    }
+
+    // ==================== MAPPING ====================
+
+    private void apply(DepartmentScore row, ScoreTree tree) {
+        ScoreResult automatic = tree.getDepartmentScore();
+        DepartmentScoreResult result = tree.getScoreWithEvaluations();
+
+        // Level and color as scored from the unrounded average, not re-derived from the rounded score
+        row.setAutomaticOkrScore(result.getAutomaticOkrScore());
+        row.setAutomaticOkrPercentage(result.getAutomaticOkrPercentage());
+        row.setAutomaticOkrLevel(automatic.getLevel());
+        row.setAutomaticOkrColor(automatic.getColor());
+        row.setDirectorEvaluation(result.getDirectorEvaluation());
+        row.setDirectorStars(result.getDirectorStars());
+        row.setDirectorComment(result.getDirectorComment());
+        row.setHrEvaluationLetter(result.getHrEvaluationLetter());
+        row.setHrEvaluationNumeric(result.getHrEvaluationNumeric());
+        row.setHrComment(result.getHrComment());
+        row.setBusinessBlockEvaluation(result.getBusinessBlockEvaluation());
+        row.setBusinessBlockStars(result.getBusinessBlockStars());
+        row.setBusinessBlockComment(result.getBusinessBlockComment());
+        row.setFinalCombinedScore(result.getFinalCombinedScore());
+        row.setFinalPercentage(result.getFinalPercentage());
+        row.setScoreLevel(result.getScoreLevel());
+        row.setColor(result.getColor());
+        row.setHasDirectorEvaluation(result.getHasDirectorEvaluation());
+        row.setHasHrEvaluation(result.getHasHrEvaluation());
+        row.setHasBusinessBlockEvaluation(result.getHasBusinessBlockEvaluation());
+        row.setDirty(false);
+        row.setComputedAt(LocalDateTime.now());
+    }
+
+    private DepartmentScoreResult toResult(DepartmentScore row) {
+        return DepartmentScoreResult.builder()
+                .automaticOkrScore(row.getAutomaticOkrScore())
+                .automaticOkrPercentage(row.getAutomaticOkrPercentage())
+                .directorEvaluation(row.getDirectorEvaluation())
+                .directorStars(row.getDirectorStars())
+                .directorComment(row.getDirectorComment())
+                .hrEvaluationLetter(row.getHrEvaluationLetter())
+                .hrEvaluationNumeric(row.getHrEvaluationNumeric())
+                .hrComment(row.getHrComment())
+                .businessBlockEvaluation(row.getBusinessBlockEvaluation())
+                .businessBlockStars(row.getBusinessBlockStars())
+                .businessBlockComment(row.getBusinessBlockComment())
+                .finalCombinedScore(row.getFinalCombinedScore())
+                .finalPercentage(row.getFinalPercentage())
+                .scoreLevel(row.getScoreLevel())
+                .color(row.getColor())
+                .hasDirectorEvaluation(row.getHasDirectorEvaluation())
+                .hasHrEvaluation(row.getHasHrEvaluation())
+                .hasBusinessBlockEvaluation(row.getHasBusinessBlockEvaluation())
+                .build();
+    }
+}
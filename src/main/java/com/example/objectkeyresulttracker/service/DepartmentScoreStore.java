@@ -0,0 +1,127 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.dto.ScoreTree;
+import com.example.objectkeyresulttracker.event.DepartmentChangedEvent;
+import com.example.objectkeyresulttracker.event.EvaluationChangedEvent;
+import com.example.objectkeyresulttracker.event.KeyResultActualValueChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Maintained department score trees, so reading a department's scores is a map lookup.
+ *
+ * Every committed change advances a logical clock and records when each department last changed.
+ * Callers take a {@link #stamp()} before loading the data they score; a tree is only kept
+ * if its department has not changed since that stamp, so a slow read can never
+ * overwrite scores produced by a newer change.
+ */
+@Slf4j
+@Component
+public class DepartmentScoreStore {
+
+    private final ScoreLevelRegistry scoreLevelRegistry;
+    private final ConcurrentHashMap<UUID, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private volatile long allChangedAt;
+
+    public DepartmentScoreStore(ScoreLevelRegistry scoreLevelRegistry) {
+        this.scoreLevelRegistry = scoreLevelRegistry;
+    }
+
+    /**
+     * Current position of the change clock; take it before loading data to score
+     */
+    public long stamp() {
+        return clock.get();
+    }
+
+    /**
+     * Position of the change clock when a department last changed; reading it loads nothing
+     */
+    public long version(UUID departmentId) {
+        return changedAt(slots.get(departmentId));
+    }
+
+    /**
+     * Stored scores of a department, or null if they are missing or were computed for other score levels
+     */
+    public ScoreTree find(UUID departmentId) {
+        Slot slot = slots.get(departmentId);
+        if (slot == null || slot.tree() == null || slot.levelVersion() != scoreLevelRegistry.current().getVersion()) {
+            return null;
+        }
+        return slot.tree();
+    }
+
+    /**
+     * Keep scores computed by a read, unless the department changed after {@code stamp}
+     */
+    public void store(UUID departmentId, long stamp, long levelVersion, ScoreTree tree) {
+        slots.compute(departmentId, (id, slot) -> {
+            long changedAt = changedAt(slot);
+            return changedAt <= stamp ? new Slot(changedAt, levelVersion, tree) : slot;
+        });
+    }
+
+    /**
+     * Record a committed change together with its recomputed scores.
+     * If another change landed since {@code stamp} the scores are dropped instead.
+     */
+    public void update(UUID departmentId, long stamp, long levelVersion, ScoreTree tree) {
+        long now = clock.incrementAndGet();
+        slots.compute(departmentId, (id, slot) -> changedAt(slot) <= stamp
+                ? new Slot(now, levelVersion, tree)
+                : new Slot(now, 0, null));
+    }
+
+    /**
+     * Record a committed change without scores; the next read recomputes them
+     */
+    public void invalidate(UUID departmentId) {
+        long now = clock.incrementAndGet();
+        slots.put(departmentId, new Slot(now, 0, null));
+    }
+
+    /**
+     * Record a committed change affecting every department
+     */
+    public void invalidateAll() {
+        allChangedAt = clock.incrementAndGet();
+        slots.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onKeyResultActualValueChanged(KeyResultActualValueChangedEvent event) {
+        update(event.departmentId(), event.stamp(), event.levelVersion(), event.scores());
+        log.debug("Department {} scores updated for key result {}", event.departmentId(), event.keyResultId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        if (event.affectsAllDepartments()) {
+            invalidateAll();
+        } else {
+            invalidate(event.departmentId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEvaluationChanged(EvaluationChangedEvent event) {
+        if ("DEPARTMENT".equals(event.targetType()) && event.targetId() != null) {
+            invalidate(event.targetId());
+        }
+    }
+
+    private long changedAt(Slot slot) {
+        return Math.max(slot != null ? slot.changedAt() : 0, allChangedAt);
+    }
+
+    // Scores of one department; tree is null when they must be recomputed
+    private record Slot(long changedAt, long levelVersion, ScoreTree tree) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.dto.DepartmentRow;
+import com.example.objectkeyresulttracker.dto.KeyResultRow;
+import com.example.objectkeyresulttracker.dto.ObjectiveRow;
+import com.example.objectkeyresulttracker.entity.Department;
+import com.example.objectkeyresulttracker.entity.KeyResult;
+import com.example.objectkeyresulttracker.entity.Objective;
+import com.example.objectkeyresulttracker.repository.DepartmentRepository;
+import com.example.objectkeyresulttracker.repository.KeyResultRepository;
+import com.example.objectkeyresulttracker.repository.ObjectiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Read path for the department → objective → key result tree.
+ *
+ * Departments, objectives and key results are read as flat projection rows and assembled into
+ * plain, detached objects. Nothing enters the persistence context, so there is no entity
+ * hydration, no loaded-state snapshots and nothing to dirty-check at flush.
+ * The result must not be saved; use the repositories for anything that writes.
+ *
+ * The three queries are separate statements under READ COMMITTED, so a child committed between
+ * them may point at a parent that was not read. Such rows are skipped; they appear on the next read.
+ */
+@Component
+@RequiredArgsConstructor
+public class DepartmentTreeReader {
+
+    private final DepartmentRepository departmentRepository;
+    private final ObjectiveRepository objectiveRepository;
+    private final KeyResultRepository keyResultRepository;
+
+    /**
+     * Every department with its objectives and key results, in three queries
+     */
+    @Transactional(readOnly = true)
+    public List<Department> readAll() {
+        List<DepartmentRow> departmentRows = departmentRepository.findAllRows();
+        if (departmentRows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try (Stream<KeyResultRow> keyResultRows = keyResultRepository.streamAllDepartmentKeyResultRows()) {
+            return assemble(departmentRows, objectiveRepository.findAllDepartmentObjectiveRows(), keyResultRows);
+        }
+    }
+
+    /**
+     * Departments of rows that were already read, with their objectives and key results, in two queries.
+     * Lets a caller walk the department list in chunks, each in its own transaction.
+     */
+    @Transactional(readOnly = true)
+    public List<Department> readChunk(List<DepartmentRow> departmentRows) {
+        if (departmentRows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<UUID> ids = departmentRows.stream().map(DepartmentRow::id).toList();
+        return assemble(departmentRows,
+                objectiveRepository.findObjectiveRowsByDepartmentIds(ids),
+                keyResultRepository.findKeyResultRowsByDepartmentIds(ids).stream());
+    }
+
+    /**
+     * The given departments with their objectives and key results, in three queries
+     */
+    @Transactional(readOnly = true)
+    public List<Department> read(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return assemble(departmentRepository.findRowsByIdIn(ids),
+                objectiveRepository.findObjectiveRowsByDepartmentIds(ids),
+                keyResultRepository.findKeyResultRowsByDepartmentIds(ids).stream());
+    }
+
+    private static List<Department> assemble(List<DepartmentRow> departmentRows,
+                                             List<ObjectiveRow> objectiveRows,
+                                             Stream<KeyResultRow> keyResultRows) {
+        List<Department> departments = new ArrayList<>(departmentRows.size());
+        Map<UUID, Department> departmentsById = new HashMap<>();
+        for (DepartmentRow row : departmentRows) {
+            Department dept = Department.builder()
+                    .id(row.id())
+                    .name(row.name())
+                    .build();
+            departments.add(dept);
+            departmentsById.put(dept.getId(), dept);
+        }
+
+        Map<UUID, Objective> objectivesById = new HashMap<>();
+        for (ObjectiveRow row : objectiveRows) {
+            Department dept = departmentsById.get(row.departmentId());
+            if (dept == null) {
+                continue;
+            }
+            Objective obj = Objective.builder()
+                    .id(row.id())
+                    .name(row.name())
+                    .weight(row.weight())
+                    .department(dept)
+                    .build();
+            dept.getObjectives().add(obj);
+            objectivesById.put(obj.getId(), obj);
+        }
+
+        keyResultRows.forEach(row -> {
+            Objective obj = objectivesById.get(row.objectiveId());
+            if (obj == null) {
+                return;
+            }
+            obj.getKeyResults().add(toKeyResult(row, obj));
+        });
+
+        return departments;
+    }
+
+    private static KeyResult toKeyResult(KeyResultRow row, Objective obj) {
+        return KeyResult.builder()
+                .id(row.id())
+                .name(row.name())
+                .description(row.description())
+                .metricType(row.metricType())
+                .unit(row.unit())
+                .weight(row.weight())
+                .thresholdBelow(row.thresholdBelow())
+                .thresholdMeets(row.thresholdMeets())
+                .thresholdGood(row.thresholdGood())
+                .thresholdVeryGood(row.thresholdVeryGood())
+                .thresholdExceptional(row.thresholdExceptional())
+                .actualValue(row.actualValue())
+                .objective(obj)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.objectkeyresulttracker.service;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Strong entity tags built from in-memory data versions.
+ * The versions restart with the process, so every tag also carries a per-process epoch;
+ * a tag issued before a restart never matches afterwards.
+ */
+final class ETags {
+
+    private static final String EPOCH = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+
+    private ETags() {
+    }
+
+    static String of(long... versions) {
+        return Arrays.stream(versions)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining("-", "\"" + EPOCH + "-", "\""));
+    }
+}
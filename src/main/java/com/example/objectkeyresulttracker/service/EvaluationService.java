@@ -2,11 +2,16 @@ package com.example.objectkeyresulttracker.service;
 
 import com.example.objectkeyresulttracker.dto.EvaluationCreateRequest;
 import com.example.objectkeyresulttracker.dto.EvaluationDTO;
+import com.example.objectkeyresulttracker.dto.KeysetPage;
 import com.example.objectkeyresulttracker.entity.*;
+import com.example.objectkeyresulttracker.event.EvaluationChangedEvent;
 import com.example.objectkeyresulttracker.repository.EvaluationRepository;
 import com.example.objectkeyresulttracker.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,31 +29,7 @@ public class EvaluationService {
 
     private final EvaluationRepository evaluationRepository;
     private final UserRepository userRepository;
-
-    /**
-     * Migrate any DRAFT evaluations to SUBMITTED status on application startup.
-     * This handles evaluations created before the auto-submit change was made.
-     */
-    @org.springframework.context.event.EventListener(org.springframework.boot.context.event.ApplicationReadyEvent.class)
-    @Transactional
-    public void migrateDraftEvaluationsToSubmitted() {
-        List<Evaluation> draftEvals = evaluationRepository.findAll().stream()
-                .filter(e -> e.getStatus() == EvaluationStatus.DRAFT)
-                .toList();
-
-        if (!draftEvals.isEmpty()) {
-            log.info("Found {} DRAFT evaluations to migrate to SUBMITTED", draftEvals.size());
-            for (Evaluation eval : draftEvals) {
-                log.info("Migrating evaluation: id={}, targetType={}, targetId={}, evaluatorType={}",
-                        eval.getId(), eval.getTargetType(), eval.getTargetId(), eval.getEvaluatorType());
-                eval.setStatus(EvaluationStatus.SUBMITTED);
-                evaluationRepository.save(eval);
-            }
-            log.info("Successfully migrated {} evaluations to SUBMITTED status", draftEvals.size());
-        } else {
-            log.info("No DRAFT evaluations found to migrate");
-        }
-    }
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new evaluation
@@ -93,7 +74,13 @@ public class EvaluationService {
                 .status(EvaluationStatus.SUBMITTED)
                 .build();
 
-        evaluation = evaluationRepository.save(evaluation);
+        try {
+            // Flush now so a concurrent duplicate hits uk_evaluations_evaluator_target here
+            evaluation = evaluationRepository.saveAndFlush(evaluation);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("You have already evaluated this " + request.getTargetType().toLowerCase());
+        }
+        publishEvaluationChanged(evaluation);
         log.info("Evaluation created successfully: id={}, targetId={}, evaluatorType={}, status={}",
                 evaluation.getId(), evaluation.getTargetId(), evaluation.getEvaluatorType(), evaluation.getStatus());
 
@@ -120,6 +107,7 @@ public class EvaluationService {
 
         evaluation.setStatus(EvaluationStatus.SUBMITTED);
         evaluation = evaluationRepository.save(evaluation);
+        publishEvaluationChanged(evaluation);
 
         return convertToDTO(evaluation);
     }
@@ -155,6 +143,7 @@ public class EvaluationService {
         evaluation.setComment(request.getComment());
 
         evaluation = evaluationRepository.save(evaluation);
+        publishEvaluationChanged(evaluation);
         log.info("Evaluation updated successfully: id={}, evaluatorType={}", evaluation.getId(), evaluation.getEvaluatorType());
 
         return convertToDTO(evaluation);
@@ -187,6 +176,28 @@ public class EvaluationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One keyset page of evaluations, optionally filtered by target type and evaluator type
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<EvaluationDTO> getEvaluationsPage(String cursor, int size, String targetType, EvaluatorType evaluatorType) {
+        KeysetCursor.checkPageSize(size);
+        String afterId = KeysetCursor.decode(cursor, 1)[0];
+
+        String type = KeysetCursor.blankToNull(targetType);
+        List<Evaluation> evals = evaluationRepository.findPage(type != null ? type.toUpperCase() : null, evaluatorType,
+                afterId != null ? UUID.fromString(afterId) : null, Limit.of(size + 1));
+        boolean hasMore = evals.size() > size;
+        if (hasMore) {
+            evals = evals.subList(0, size);
+        }
+
+        return KeysetPage.<EvaluationDTO>builder()
+                .items(evals.stream().map(this::convertToDTO).collect(Collectors.toList()))
+                .nextCursor(hasMore ? KeysetCursor.encode(evals.get(evals.size() - 1).getId().toString()) : null)
+                .build();
+    }
+
     /**
      * Get evaluations created by a specific evaluator
      */
@@ -215,6 +226,11 @@ public class EvaluationService {
         }
 
         evaluationRepository.delete(evaluation);
+        publishEvaluationChanged(evaluation);
+    }
+
+    private void publishEvaluationChanged(Evaluation evaluation) {
+        eventPublisher.publishEvent(new EvaluationChangedEvent(evaluation.getTargetType(), evaluation.getTargetId()));
     }
 
     /**
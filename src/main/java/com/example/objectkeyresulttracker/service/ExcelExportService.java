@@ -5,7 +5,6 @@ import com.example.objectkeyresulttracker.dto.KeyResultDTO;
 import com.example.objectkeyresulttracker.dto.ObjectiveDTO;
 import com.example.objectkeyresulttracker.entity.KeyResult.MetricType;
 import com.example.objectkeyresulttracker.entity.ScoreLevel;
-import com.example.objectkeyresulttracker.repository.ScoreLevelRepository;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
@@ -25,7 +24,11 @@ import java.util.List;
 @Service
 public class ExcelExportService {
 
-    private final ScoreLevelRepository scoreLevelRepository;
+    // Column headers the import reads back (see ExcelImportService)
+    static final String ACTUAL_VALUE_HEADER = "Факт";
+    static final String KEY_RESULT_ID_HEADER = "ID";
+
+    private final ScoreLevelRegistry scoreLevelRegistry;
 
     // Default score levels if none in database
     private static final List<DefaultLevel> DEFAULT_LEVELS = List.of(
@@ -36,14 +39,14 @@ public class ExcelExportService {
             new DefaultLevel("Исключительно", 5.0, "#1e7b34")
     );
 
-    public ExcelExportService(ScoreLevelRepository scoreLevelRepository) {
-        this.scoreLevelRepository = scoreLevelRepository;
+    public ExcelExportService(ScoreLevelRegistry scoreLevelRegistry) {
+        this.scoreLevelRegistry = scoreLevelRegistry;
     }
 
     private record DefaultLevel(String name, double scoreValue, String color) {}
 
     private List<ScoreLevel> getScoreLevels() {
-        List<ScoreLevel> levels = scoreLevelRepository.findAllByOrderByDisplayOrderAsc();
+        List<ScoreLevel> levels = new ArrayList<>(scoreLevelRegistry.current().getLevels());
         if (levels.isEmpty()) {
             // Create default levels as ScoreLevel objects
             List<ScoreLevel> defaults = new ArrayList<>();
@@ -70,7 +73,7 @@ public class ExcelExportService {
         headers.add("Вес цели");
         headers.add("Ключевой результат");
         headers.add("Тип");
-        headers.add("Факт");
+        headers.add(ACTUAL_VALUE_HEADER);
         headers.add("Единица измерения");
         // Add dynamic level names
         for (ScoreLevel level : levels) {
@@ -78,9 +81,32 @@ public class ExcelExportService {
         }
         headers.add("Оценка");
         headers.add("Уровень исполнения");
+        // Hidden: maps rows back to key results on import
+        headers.add(KEY_RESULT_ID_HEADER);
         return headers.toArray(new String[0]);
     }
 
+    /**
+     * Grade written for a qualitative key result; "E" stands in for a missing value
+     */
+    static String exportedGrade(String actualValue) {
+        return actualValue != null ? actualValue : "E";
+    }
+
+    /**
+     * Number written for a quantitative key result; 0 stands in for a missing or unparseable value
+     */
+    static double exportedNumber(String actualValue) {
+        if (actualValue == null) {
+            return 0;
+        }
+        try {
+            return Double.parseDouble(actualValue);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
     public byte[] exportToExcel(List<DepartmentDTO> departments) {
         try (XSSFWorkbook workbook = new XSSFWorkbook();
              ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
@@ -92,6 +118,7 @@ public class ExcelExportService {
             int thresholdStartCol = 7; // Column H (0-indexed: 7)
             int scoreCol = thresholdStartCol + numLevels; // After all threshold columns
             int levelCol = scoreCol + 1;
+            int idCol = levelCol + 1;
 
             XSSFSheet sheet = workbook.createSheet("Экспорт OKR");
 
@@ -160,18 +187,14 @@ public class ExcelExportService {
                         // Actual value as number for formulas
                         Cell actualCell = row.createCell(5);
                         if (kr.getMetricType() == MetricType.QUALITATIVE) {
-                            actualCell.setCellValue(kr.getActualValue() != null ? kr.getActualValue() : "E");
+                            actualCell.setCellValue(exportedGrade(kr.getActualValue()));
                         } else {
-                            try {
-                                double actualValue = Double.parseDouble(kr.getActualValue() != null ? kr.getActualValue() : "0");
-                                actualCell.setCellValue(actualValue);
-                            } catch (NumberFormatException e) {
-                                actualCell.setCellValue(0);
-                            }
+                            actualCell.setCellValue(exportedNumber(kr.getActualValue()));
                         }
                         actualCell.setCellStyle(centeredStyle);
 
                         row.createCell(6).setCellValue(kr.getUnit() != null ? kr.getUnit() : "");
+                        row.createCell(idCol).setCellValue(kr.getId() != null ? kr.getId().toString() : "");
 
                         // Thresholds - dynamic based on number of levels
                         if (kr.getMetricType() == MetricType.QUALITATIVE) {
@@ -260,6 +283,7 @@ public class ExcelExportService {
             for (int i = 0; i < headers.length; i++) {
                 sheet.autoSizeColumn(i);
             }
+            sheet.setColumnHidden(idCol, true);
 
             // Evaluate all formulas
             XSSFFormulaEvaluator.evaluateAllFormulaCells(workbook);
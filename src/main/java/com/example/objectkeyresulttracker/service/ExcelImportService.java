@@ -0,0 +1,242 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.dto.ActualValueBatchResult;
+import com.example.objectkeyresulttracker.dto.ActualValueUpdate;
+import com.example.objectkeyresulttracker.dto.ExcelImportResult;
+import com.example.objectkeyresulttracker.dto.KeyResultRow;
+import com.example.objectkeyresulttracker.entity.KeyResult;
+import com.example.objectkeyresulttracker.repository.KeyResultRepository;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Service;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads actual values back from a workbook produced by {@link ExcelExportService}.
+ * The first sheet is parsed row by row with POI's SAX reader, so memory does not grow
+ * with the sheet; rows are applied in chunks through the batch actual-value update.
+ * Rows whose cell still holds what the export wrote for the stored value (including the
+ * placeholders for a missing value) are skipped, so re-uploading an export only applies edits.
+ */
+@Service
+public class ExcelImportService {
+
+    // Below OkrService's batch limit; each chunk is committed on its own
+    static final int CHUNK_SIZE = 500;
+
+    private final OkrService okrService;
+    private final KeyResultRepository keyResultRepository;
+
+    public ExcelImportService(OkrService okrService, KeyResultRepository keyResultRepository) {
+        this.okrService = okrService;
+        this.keyResultRepository = keyResultRepository;
+    }
+
+    public ExcelImportResult importActualValues(File xlsx) {
+        ImportHandler handler = new ImportHandler();
+        try (OPCPackage pkg = OPCPackage.open(xlsx, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IllegalArgumentException("Workbook has no sheets");
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), null,
+                        new ReadOnlySharedStringsTable(pkg), handler, new PlainNumberFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IllegalArgumentException("Cannot read Excel file: " + e.getMessage(), e);
+        }
+        handler.flush();
+        // Chunk errors are reported after the rows rejected while parsing
+        handler.errors.sort(Comparator.comparing(ExcelImportResult.RowError::getRow));
+
+        if (handler.actualCol < 0) {
+            throw new IllegalArgumentException("Not an OKR export: column '" + ExcelExportService.ACTUAL_VALUE_HEADER + "' not found");
+        }
+        return ExcelImportResult.builder()
+                .rowsRead(handler.rowsRead)
+                .updated(handler.updated)
+                .unchanged(handler.unchanged)
+                .failed(handler.errors.size())
+                .errors(handler.errors)
+                .build();
+    }
+
+    /**
+     * Collects the ID and actual value cells of each data row and hands them to the
+     * batch update once a chunk is full.
+     */
+    private class ImportHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private int actualCol = -1;
+        private int idCol = -1;
+        private int rowsRead;
+        private int updated;
+        private int unchanged;
+        private final List<ExcelImportResult.RowError> errors = new ArrayList<>();
+
+        private final List<ActualValueUpdate> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<Integer> chunkRows = new ArrayList<>(CHUNK_SIZE);
+
+        private int currentRow;
+        private String rowId;
+        private String rowValue;
+
+        @Override
+        public void startRow(int rowNum) {
+            currentRow = rowNum;
+            rowId = null;
+            rowValue = null;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (cellReference == null || formattedValue == null) {
+                return;
+            }
+            int col = new CellReference(cellReference).getCol();
+            String value = formattedValue.trim();
+            if (currentRow == 0) {
+                if (ExcelExportService.ACTUAL_VALUE_HEADER.equals(value)) {
+                    actualCol = col;
+                } else if (ExcelExportService.KEY_RESULT_ID_HEADER.equals(value)) {
+                    idCol = col;
+                }
+                return;
+            }
+            if (col == idCol) {
+                rowId = value;
+            } else if (col == actualCol) {
+                rowValue = value;
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum == 0) {
+                if (actualCol < 0 || idCol < 0) {
+                    throw new IllegalArgumentException("Not an OKR export: columns '" + ExcelExportService.ACTUAL_VALUE_HEADER
+                            + "' and '" + ExcelExportService.KEY_RESULT_ID_HEADER + "' are required");
+                }
+                return;
+            }
+            boolean noId = rowId == null || rowId.isEmpty();
+            boolean noValue = rowValue == null || rowValue.isEmpty();
+            if (noId && noValue) {
+                return;
+            }
+            rowsRead++;
+            int row = rowNum + 1;
+            if (noId) {
+                errors.add(new ExcelImportResult.RowError(row, null, "Missing key result ID"));
+                return;
+            }
+            UUID id = parseId(rowId);
+            if (id == null) {
+                errors.add(new ExcelImportResult.RowError(row, null, "Invalid key result ID: " + rowId));
+                return;
+            }
+            if (noValue) {
+                errors.add(new ExcelImportResult.RowError(row, id, "Missing actual value"));
+                return;
+            }
+            chunk.add(new ActualValueUpdate(id, rowValue));
+            chunkRows.add(row);
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        private UUID parseId(String id) {
+            try {
+                return UUID.fromString(id);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            Map<UUID, KeyResultRow> stored = keyResultRepository.findRowsByIdIn(
+                            chunk.stream().map(ActualValueUpdate::getId).toList()).stream()
+                    .collect(Collectors.toMap(KeyResultRow::id, Function.identity()));
+
+            List<ActualValueUpdate> changed = new ArrayList<>(chunk.size());
+            List<Integer> changedRows = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                KeyResultRow kr = stored.get(chunk.get(i).getId());
+                if (kr != null && isUnchanged(kr, chunk.get(i).getActualValue())) {
+                    unchanged++;
+                } else {
+                    changed.add(chunk.get(i));
+                    changedRows.add(chunkRows.get(i));
+                }
+            }
+            chunk.clear();
+            chunkRows.clear();
+            if (changed.isEmpty()) {
+                return;
+            }
+
+            ActualValueBatchResult result = okrService.updateKeyResultActualValues(changed);
+            updated += result.getUpdated();
+            for (int i = 0; i < result.getResults().size(); i++) {
+                ActualValueBatchResult.Item item = result.getResults().get(i);
+                if (item.getStatus() != ActualValueBatchResult.Status.UPDATED) {
+                    errors.add(new ExcelImportResult.RowError(changedRows.get(i), item.getId(), item.getMessage()));
+                }
+            }
+        }
+    }
+
+    // Whether the cell holds what the export writes for the stored value, so there is nothing to apply
+    private static boolean isUnchanged(KeyResultRow kr, String value) {
+        if (kr.metricType() == KeyResult.MetricType.QUALITATIVE) {
+            return value.equalsIgnoreCase(ExcelExportService.exportedGrade(kr.actualValue()).trim());
+        }
+        try {
+            return Double.parseDouble(value) == ExcelExportService.exportedNumber(kr.actualValue());
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Hands numeric cells over as plain decimals rather than in their display format,
+     * so "80" stays "80" and large values are not cut to scientific notation.
+     */
+    private static class PlainNumberFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.objectkeyresulttracker.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursors for keyset pagination.
+ * A cursor holds the sort key of the last row of a page; the next page starts strictly after it.
+ */
+final class KeysetCursor {
+
+    static final int MAX_PAGE_SIZE = 200;
+
+    private static final String SEPARATOR = "\u0000";
+
+    private KeysetCursor() {
+    }
+
+    static String encode(String... sortKey) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(SEPARATOR, sortKey).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sort key stored in a cursor, or an array of nulls for the first page
+     */
+    static String[] decode(String cursor, int length) {
+        if (cursor == null || cursor.isBlank()) {
+            return new String[length];
+        }
+        String[] sortKey;
+        try {
+            sortKey = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (sortKey.length != length) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return sortKey;
+    }
+
+    static int checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+
+    /**
+     * LIKE pattern matching values that start with {@code prefix}, or null when there is no prefix
+     */
+    static String prefixPattern(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return null;
+        }
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
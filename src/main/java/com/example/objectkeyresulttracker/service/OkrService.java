@@ -2,25 +2,43 @@ package com.example.objectkeyresulttracker.service;
 
 
 
+import com.example.objectkeyresulttracker.dto.ActualValueBatchResult;
+import com.example.objectkeyresulttracker.dto.ActualValueUpdate;
 import com.example.objectkeyresulttracker.dto.DepartmentDTO;
+import com.example.objectkeyresulttracker.dto.DepartmentInclude;
+import com.example.objectkeyresulttracker.dto.DepartmentRow;
 import com.example.objectkeyresulttracker.dto.DepartmentScoreResult;
+import com.example.objectkeyresulttracker.dto.DepartmentSummaryDTO;
+import com.example.objectkeyresulttracker.dto.DepartmentSummaryRow;
 import com.example.objectkeyresulttracker.dto.KeyResultDTO;
+import com.example.objectkeyresulttracker.dto.KeysetPage;
 import com.example.objectkeyresulttracker.dto.ObjectiveDTO;
 import com.example.objectkeyresulttracker.dto.ScoreResult;
+import com.example.objectkeyresulttracker.dto.ScoreTree;
 import com.example.objectkeyresulttracker.dto.ThresholdDTO;
 import com.example.objectkeyresulttracker.entity.Department;
+import com.example.objectkeyresulttracker.entity.DepartmentScore;
 import com.example.objectkeyresulttracker.entity.KeyResult;
 import com.example.objectkeyresulttracker.entity.Objective;
+import com.example.objectkeyresulttracker.event.DepartmentChangedEvent;
+import com.example.objectkeyresulttracker.event.KeyResultActualValueChangedEvent;
 import com.example.objectkeyresulttracker.repository.DepartmentRepository;
+import com.example.objectkeyresulttracker.repository.DepartmentScoreRepository;
 import com.example.objectkeyresulttracker.repository.KeyResultRepository;
 import com.example.objectkeyresulttracker.repository.ObjectiveRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,36 +53,188 @@ public class OkrService {
     @Autowired
     private ScoreCalculationService scoreService;
     @Autowired
+    private ScoreLevelRegistry scoreLevelRegistry;
+    @Autowired
+    private DepartmentScoreStore scoreStore;
+    @Autowired
+    private DepartmentScoreService departmentScoreService;
+    @Autowired
+    private DepartmentTreeReader departmentTreeReader;
+    @Autowired
+    private DepartmentScoreRepository departmentScoreRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
     private com.example.objectkeyresulttracker.repository.UserRepository userRepository;
     @Autowired
     private com.example.objectkeyresulttracker.repository.EvaluationRepository evaluationRepository;
     @Autowired
     private org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
     @PersistenceContext
     private EntityManager entityManager;
 
+    // Largest accepted batch of actual-value updates
+    private static final int MAX_ACTUAL_VALUE_BATCH = 1000;
+    // Departments read and scored together when streaming the full list
+    private static final int STREAM_CHUNK_SIZE = 100;
+    private static final List<String> QUALITATIVE_GRADES = List.of("A", "B", "C", "D", "E");
+    // Plain decimal notation; Double.parseDouble alone would also take NaN, Infinity, hex and 'd'/'f' suffixes
+    private static final Pattern DECIMAL = Pattern.compile(
+            "[+-]?(\\d+\\.?\\d*|\\.\\d+)([eE][+-]?\\d+)?");
+
     // ==================== DEPARTMENTS ====================
 
     @Transactional(readOnly = true)
     public List<DepartmentDTO> getAllDepartments() {
-        try {
-            return departmentRepository.findAll().stream()
-                    .map(this::toDepartmentDTO)
-                    .collect(Collectors.toList());
-        } finally {
-            scoreService.clearCache();
+        long stamp = scoreStore.stamp();
+        // Read-only projection rows: no managed entities for a potentially large organisation
+        List<Department> departments = departmentTreeReader.readAll();
+        Map<UUID, ScoreTree> scores = getStoredScores(departments, stamp);
+        return departments.stream()
+                .map(dept -> toDepartmentDTO(dept, scores.get(dept.getId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Every department, scored and handed to {@code sink} one at a time.
+     * Departments are read and scored in chunks, each in its own read-only transaction whose
+     * entities are released before the next chunk, so apart from the id and name of every department
+     * memory stays bounded by a chunk, and no connection is held while {@code sink} writes.
+     * Without objectives in {@code include} no objective or key result is loaded; scores come
+     * from precomputed rows.
+     */
+    public void streamAllDepartments(Set<DepartmentInclude> include, Consumer<DepartmentDTO> sink) {
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+        chunkTransaction.setReadOnly(true);
+
+        long stamp = scoreStore.stamp();
+        List<DepartmentRow> rows = chunkTransaction.execute(status -> departmentRepository.findAllRows());
+        for (int from = 0; from < rows.size(); from += STREAM_CHUNK_SIZE) {
+            List<DepartmentRow> chunk = rows.subList(from, Math.min(from + STREAM_CHUNK_SIZE, rows.size()));
+            chunkTransaction.execute(status -> {
+                List<DepartmentDTO> departments = scoreChunk(chunk, include, stamp);
+                if (status.isNewTransaction()) {
+                    // With open-in-view the entity manager outlives the transaction; drop what the chunk loaded
+                    entityManager.clear();
+                }
+                return departments;
+            }).forEach(sink);
         }
     }
 
+    private List<DepartmentDTO> scoreChunk(List<DepartmentRow> rows, Set<DepartmentInclude> include, long stamp) {
+        if (!include.contains(DepartmentInclude.OBJECTIVES)) {
+            return summarize(rows, include, stamp);
+        }
+        List<Department> departments = departmentTreeReader.readChunk(rows);
+        Map<UUID, ScoreTree> scores = getStoredScores(departments, stamp, include);
+        return departments.stream()
+                .map(dept -> toDepartmentDTO(dept, scores.get(dept.getId()), include))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Id, name, scores and evaluation flags of every department, ordered by name.
+     * One query reads departments with their department_scores rows; rows the background worker
+     * has not caught up with are taken from the score store, and only departments missing from
+     * both are loaded and scored.
+     */
     @Transactional(readOnly = true)
-    public DepartmentDTO getDepartment(String id) {
-        try {
-            return departmentRepository.findById(id)
-                    .map(this::toDepartmentDTO)
+    public List<DepartmentSummaryDTO> getDepartmentSummaries() {
+        long stamp = scoreStore.stamp();
+        List<DepartmentSummaryRow> rows = departmentRepository.findSummaryRows();
+        Map<UUID, ScoreTree> scores = getStoredScoresByIds(rows.stream()
+                .filter(row -> !row.isCurrent())
+                .map(DepartmentSummaryRow::id)
+                .toList(), stamp);
+
+        List<DepartmentSummaryDTO> summaries = new ArrayList<>(rows.size());
+        for (DepartmentSummaryRow row : rows) {
+            if (row.isCurrent()) {
+                summaries.add(toSummaryDTO(row));
+            } else if (scores.containsKey(row.id())) {
+                summaries.add(toSummaryDTO(row, scores.get(row.id())));
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Entity tag of the department list: changes with any committed department change or score level change.
+     * Computed from in-memory versions only, so answering a conditional request loads nothing.
+     */
+    public String getDepartmentsETag() {
+        return ETags.of(scoreLevelRegistry.current().getVersion(), scoreStore.stamp());
+    }
+
+    /**
+     * Entity tag of one department: changes with its committed changes or a score level change
+     */
+    public String getDepartmentETag(UUID id) {
+        return ETags.of(scoreLevelRegistry.current().getVersion(), scoreStore.version(id));
+    }
+
+    /**
+     * One keyset page of departments ordered by name, optionally filtered by name prefix and score level.
+     * The score level filter uses the precomputed department scores.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<DepartmentDTO> getDepartmentsPage(String cursor, int size, String namePrefix, String level) {
+        KeysetCursor.checkPageSize(size);
+        String[] after = KeysetCursor.decode(cursor, 2);
+
+        long stamp = scoreStore.stamp();
+        List<DepartmentRow> rows = departmentRepository.findPage(KeysetCursor.prefixPattern(namePrefix),
+                KeysetCursor.blankToNull(level), after[0], after[1] != null ? UUID.fromString(after[1]) : null,
+                Limit.of(size + 1));
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows = rows.subList(0, size);
+        }
+
+        List<UUID> ids = rows.stream().map(DepartmentRow::id).toList();
+        List<Department> departments = ids.isEmpty() ? List.of() : departmentRepository.findAllWithObjectivesByIdIn(ids);
+        if (!departments.isEmpty()) {
+            objectiveRepository.fetchObjectivesWithKeyResultsByDepartmentIds(ids);
+        }
+        Map<UUID, Department> departmentsById = departments.stream()
+                .collect(Collectors.toMap(Department::getId, dept -> dept));
+        Map<UUID, ScoreTree> scores = getStoredScores(departments, stamp);
+
+        // Keep the keyset order; skip departments deleted between the two queries
+        List<DepartmentDTO> items = ids.stream()
+                .filter(departmentsById::containsKey)
+                .map(id -> toDepartmentDTO(departmentsById.get(id), scores.get(id)))
+                .collect(Collectors.toList());
+
+        DepartmentRow last = hasMore ? rows.get(rows.size() - 1) : null;
+        return KeysetPage.<DepartmentDTO>builder()
+                .items(items)
+                .nextCursor(last != null ? KeysetCursor.encode(last.name(), last.id().toString()) : null)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public DepartmentDTO getDepartment(UUID id) {
+        return getDepartment(id, DepartmentInclude.all());
+    }
+
+    /**
+     * One department with only the requested parts loaded and scored
+     */
+    @Transactional(readOnly = true)
+    public DepartmentDTO getDepartment(UUID id, Set<DepartmentInclude> include) {
+        long stamp = scoreStore.stamp();
+        if (!include.contains(DepartmentInclude.OBJECTIVES)) {
+            return summarize(departmentRepository.findRowsByIdIn(List.of(id)), include, stamp).stream()
+                    .findFirst()
                     .orElseThrow(() -> new RuntimeException("Department not found: " + id));
-        } finally {
-            scoreService.clearCache();
         }
+        return findDepartmentTree(id)
+                .map(dept -> toDepartmentDTO(dept, getStoredScores(List.of(dept), stamp, include).get(id), include))
+                .orElseThrow(() -> new RuntimeException("Department not found: " + id));
     }
 
     @Transactional
@@ -72,63 +242,179 @@ public class OkrService {
         Department dept = Department.builder()
                 .name(dto.getName())
                 .build();
-        return toDepartmentDTO(departmentRepository.save(dept));
+        dept = departmentRepository.save(dept);
+        eventPublisher.publishEvent(new DepartmentChangedEvent(dept.getId()));
+        return toDepartmentDTO(dept);
     }
 
     @Transactional
-    public DepartmentDTO updateDepartment(String id, DepartmentDTO dto) {
+    public DepartmentDTO updateDepartment(UUID id, DepartmentDTO dto) {
         Department dept = departmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Department not found: " + id));
         dept.setName(dto.getName());
-        return toDepartmentDTO(departmentRepository.save(dept));
+        dept = departmentRepository.save(dept);
+        eventPublisher.publishEvent(new DepartmentChangedEvent(id));
+        return toDepartmentDTO(dept);
     }
 
     @Transactional
-    public void deleteDepartment(String id) {
-        Department dept = departmentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Department not found: " + id));
+    public void deleteDepartment(UUID id) {
+        if (!departmentRepository.existsById(id)) {
+            throw new RuntimeException("Department not found: " + id);
+        }
 
+        // Bulk statements only: nothing of the department tree is loaded
         // 1. Delete all evaluations for this department
-        try {
-            UUID deptUuid = UUID.fromString(id);
-            var evaluations = evaluationRepository.findByTargetTypeAndTargetId("DEPARTMENT", deptUuid);
-            evaluationRepository.deleteAll(evaluations);
-        } catch (IllegalArgumentException e) {
-            // ID is not a valid UUID, skip evaluation cleanup
+        evaluationRepository.deleteByTarget("DEPARTMENT", id);
+
+        // 2. Unassign all users from this department
+        userRepository.clearDepartment(id);
+
+        // 3. Delete key results, then objectives, then the department row (leader reference goes with it)
+        keyResultRepository.deleteByDepartmentId(id);
+        objectiveRepository.deleteByDepartmentId(id);
+        departmentRepository.deleteRowById(id);
+        eventPublisher.publishEvent(new DepartmentChangedEvent(id));
+    }
+
+    @Transactional(readOnly = true)
+    public com.example.objectkeyresulttracker.dto.DepartmentScoreResult getDepartmentScoreWithEvaluations(UUID id) {
+        // Precomputed row, unless a change is still waiting for the background worker
+        DepartmentScoreResult precomputed = departmentScoreService.findCurrent(id);
+        if (precomputed != null) {
+            return precomputed;
         }
 
-        // 2. Unassign all users from this department (set department to null)
-        var usersInDept = userRepository.findByDepartment(dept);
-        for (var user : usersInDept) {
-            user.setDepartment(null);
-            userRepository.save(user);
+        ScoreTree stored = scoreStore.find(id);
+        if (stored != null) {
+            return stored.getScoreWithEvaluations();
         }
 
-        // 3. Clear departmentLeader reference if set
-        if (dept.getDepartmentLeader() != null) {
-            dept.setDepartmentLeader(null);
-            departmentRepository.save(dept);
+        long stamp = scoreStore.stamp();
+        Department dept = findDepartmentTree(id)
+                .orElseThrow(() -> new RuntimeException("Department not found: " + id));
+        return getStoredScores(dept, stamp).getScoreWithEvaluations();
+    }
+
+    /**
+     * Departments without objectives. Scores come from up-to-date department_scores rows, then from
+     * the score store; only departments found in neither are loaded as trees and scored.
+     */
+    private List<DepartmentDTO> summarize(List<DepartmentRow> rows, Set<DepartmentInclude> include, long stamp) {
+        List<UUID> ids = rows.stream().map(DepartmentRow::id).toList();
+        Map<UUID, DepartmentScore> precomputed = departmentScoreRepository.findAllById(ids).stream()
+                .filter(row -> !row.getDirty())
+                .collect(Collectors.toMap(DepartmentScore::getDepartmentId, row -> row));
+
+        Map<UUID, ScoreTree> scores = getStoredScoresByIds(ids.stream()
+                .filter(id -> !precomputed.containsKey(id))
+                .toList(), stamp);
+
+        List<DepartmentDTO> summaries = new ArrayList<>(rows.size());
+        for (DepartmentRow row : rows) {
+            DepartmentScore score = precomputed.get(row.id());
+            if (score != null) {
+                summaries.add(toDepartmentSummary(row, score, include));
+            } else if (scores.containsKey(row.id())) {
+                Department dept = Department.builder().id(row.id()).name(row.name()).build();
+                summaries.add(toDepartmentDTO(dept, scores.get(row.id()), include));
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Scores of departments by id from the score store; only departments missing from it are
+     * loaded as trees and scored. Departments that no longer exist are left out.
+     */
+    private Map<UUID, ScoreTree> getStoredScoresByIds(Collection<UUID> ids, long stamp) {
+        Map<UUID, ScoreTree> scores = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : ids) {
+            ScoreTree stored = scoreStore.find(id);
+            if (stored != null) {
+                scores.put(id, stored);
+            } else {
+                missing.add(id);
+            }
         }
+        if (!missing.isEmpty()) {
+            scores.putAll(getStoredScores(departmentTreeReader.read(missing), stamp));
+        }
+        return scores;
+    }
 
-        // 4. Now delete the department (objectives will be cascade deleted)
-        departmentRepository.deleteById(id);
+    /**
+     * Scores of a department from the score store, computing and storing them if missing.
+     * {@code stamp} must be taken before the department was loaded.
+     */
+    private ScoreTree getStoredScores(Department dept, long stamp) {
+        return getStoredScores(List.of(dept), stamp).get(dept.getId());
     }
 
-    @Transactional(readOnly = true)
-    public com.example.objectkeyresulttracker.dto.DepartmentScoreResult getDepartmentScoreWithEvaluations(String id) {
-        try {
-            Department dept = departmentRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Department not found: " + id));
-            return scoreService.calculateDepartmentScoreWithEvaluations(id, dept.getObjectives());
-        } finally {
-            scoreService.clearCache();
+    /**
+     * Scores of several departments from the score store. Missing ones are computed together,
+     * so their evaluations are loaded with a single query.
+     */
+    private Map<UUID, ScoreTree> getStoredScores(List<Department> departments, long stamp) {
+        return getStoredScores(departments, stamp, DepartmentInclude.all());
+    }
+
+    /**
+     * Scores of several departments from the score store. Without evaluations in {@code include},
+     * missing ones are scored from their objectives only: no evaluation is loaded, and the partial
+     * trees are not stored.
+     */
+    private Map<UUID, ScoreTree> getStoredScores(List<Department> departments, long stamp,
+                                                 Set<DepartmentInclude> include) {
+        Map<UUID, ScoreTree> scores = new HashMap<>();
+        List<Department> missing = new ArrayList<>();
+        for (Department dept : departments) {
+            ScoreTree stored = scoreStore.find(dept.getId());
+            if (stored != null) {
+                scores.put(dept.getId(), stored);
+            } else {
+                missing.add(dept);
+            }
+        }
+
+        if (!missing.isEmpty() && !include.contains(DepartmentInclude.EVALUATIONS)) {
+            scores.putAll(scoreService.calculateOkrScoreTrees(missing));
+        } else if (!missing.isEmpty()) {
+            long levelVersion = scoreLevelRegistry.current().getVersion();
+            scoreService.calculateDepartmentScoreTrees(missing).forEach((id, tree) -> {
+                scoreStore.store(id, stamp, levelVersion, tree);
+                scores.put(id, tree);
+            });
         }
+        return scores;
+    }
+
+    /**
+     * Load every department with objectives and key results initialised.
+     * Runs a fixed number of queries regardless of how many departments exist.
+     */
+    private List<Department> findAllDepartmentTrees() {
+        List<Department> departments = departmentRepository.findAllWithObjectives();
+        if (!departments.isEmpty()) {
+            objectiveRepository.fetchAllDepartmentObjectivesWithKeyResults();
+        }
+        return departments;
+    }
+
+    /**
+     * Load a single department with objectives and key results initialised.
+     */
+    private Optional<Department> findDepartmentTree(UUID id) {
+        Optional<Department> department = departmentRepository.findByIdWithObjectives(id);
+        department.ifPresent(dept -> objectiveRepository.fetchObjectivesWithKeyResultsByDepartmentId(dept.getId()));
+        return department;
     }
 
     // ==================== OBJECTIVES ====================
 
     @Transactional
-    public ObjectiveDTO createObjective(String departmentId, ObjectiveDTO dto) {
+    public ObjectiveDTO createObjective(UUID departmentId, ObjectiveDTO dto) {
         Department dept = departmentRepository.findById(departmentId)
                 .orElseThrow(() -> new RuntimeException("Department not found"));
 
@@ -138,27 +424,32 @@ public class OkrService {
                 .department(dept)
                 .build();
 
-        return toObjectiveDTO(objectiveRepository.save(obj));
+        obj = objectiveRepository.save(obj);
+        eventPublisher.publishEvent(new DepartmentChangedEvent(departmentId));
+        return toObjectiveDTO(obj);
     }
 
     @Transactional
-    public ObjectiveDTO updateObjective(String id, ObjectiveDTO dto) {
+    public ObjectiveDTO updateObjective(UUID id, ObjectiveDTO dto) {
         Objective obj = objectiveRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Objective not found"));
         obj.setName(dto.getName());
         obj.setWeight(dto.getWeight());
-        return toObjectiveDTO(objectiveRepository.save(obj));
+        obj = objectiveRepository.save(obj);
+        publishDepartmentChanged(obj);
+        return toObjectiveDTO(obj);
     }
 
     @Transactional
-    public void deleteObjective(String id) {
+    public void deleteObjective(UUID id) {
+        objectiveRepository.findById(id).ifPresent(this::publishDepartmentChanged);
         objectiveRepository.deleteById(id);
     }
 
     // ==================== KEY RESULTS ====================
 
     @Transactional
-    public KeyResultDTO createKeyResult(String objectiveId, KeyResultDTO dto) {
+    public KeyResultDTO createKeyResult(UUID objectiveId, KeyResultDTO dto) {
         Objective obj = objectiveRepository.findById(objectiveId)
                 .orElseThrow(() -> new RuntimeException("Objective not found"));
 
@@ -177,11 +468,13 @@ public class OkrService {
                 .objective(obj)
                 .build();
 
-        return toKeyResultDTO(keyResultRepository.save(kr));
+        kr = keyResultRepository.save(kr);
+        publishDepartmentChanged(obj);
+        return toKeyResultDTO(kr);
     }
 
     @Transactional
-    public KeyResultDTO updateKeyResult(String id, KeyResultDTO dto) {
+    public KeyResultDTO updateKeyResult(UUID id, KeyResultDTO dto) {
         KeyResult kr = keyResultRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Key Result not found"));
 
@@ -198,62 +491,261 @@ public class OkrService {
             kr.setThresholdExceptional(dto.getThresholds().getExceptional());
         }
 
-        return toKeyResultDTO(keyResultRepository.save(kr));
+        kr = keyResultRepository.save(kr);
+        publishDepartmentChanged(kr.getObjective());
+        return toKeyResultDTO(kr);
     }
 
     @Transactional
-    public KeyResultDTO updateKeyResultActualValue(String id, String actualValue) {
+    public KeyResultDTO updateKeyResultActualValue(UUID id, String actualValue) {
+        long stamp = scoreStore.stamp();
         KeyResult kr = keyResultRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Key Result not found"));
+        String invalid = validateActualValue(kr, actualValue);
+        if (invalid != null) {
+            throw new IllegalArgumentException(invalid);
+        }
         kr.setActualValue(actualValue);
-        return toKeyResultDTO(keyResultRepository.save(kr));
+        kr = keyResultRepository.save(kr);
+
+        Objective obj = kr.getObjective();
+        Department dept = obj.getDepartment();
+        if (dept == null) {
+            // Individual objectives are not part of any department score
+            return toKeyResultDTO(kr);
+        }
+
+        // Rescore only this key result, its objective and its department
+        long levelVersion = scoreLevelRegistry.current().getVersion();
+        ScoreTree previous = scoreStore.find(dept.getId());
+        ScoreTree scores = previous != null
+                ? scoreService.rescoreKeyResult(previous, kr)
+                : scoreService.calculateDepartmentScoreTree(dept);
+
+        // The store picks the new scores up once the update has committed
+        eventPublisher.publishEvent(new KeyResultActualValueChangedEvent(
+                dept.getId(), obj.getId(), kr.getId(), stamp, levelVersion, scores));
+
+        return toKeyResultDTO(kr, scores.getKeyResultScore(kr.getId()));
     }
 
+    /**
+     * Apply many actual values in one transaction.
+     * Updates are flushed as batched JDBC statements, items that cannot be applied are reported
+     * without failing the others, and each affected department is rescored once after commit.
+     */
     @Transactional
-    public void deleteKeyResult(String id) {
+    public ActualValueBatchResult updateKeyResultActualValues(List<ActualValueUpdate> updates) {
+        if (updates == null || updates.isEmpty()) {
+            throw new IllegalArgumentException("No actual values to update");
+        }
+        if (updates.size() > MAX_ACTUAL_VALUE_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_ACTUAL_VALUE_BATCH + " actual values can be updated at once");
+        }
+
+        Set<UUID> ids = updates.stream()
+                .map(ActualValueUpdate::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, KeyResult> keyResults = ids.isEmpty() ? Map.of() : keyResultRepository.findAllWithObjectiveByIdIn(ids).stream()
+                .collect(Collectors.toMap(KeyResult::getId, kr -> kr));
+
+        List<ActualValueBatchResult.Item> results = new ArrayList<>(updates.size());
+        Set<UUID> affectedDepartments = new LinkedHashSet<>();
+        int updated = 0;
+        for (ActualValueUpdate update : updates) {
+            KeyResult kr = update.getId() != null ? keyResults.get(update.getId()) : null;
+            if (kr == null) {
+                results.add(failedItem(update.getId(), ActualValueBatchResult.Status.NOT_FOUND, "Key Result not found"));
+                continue;
+            }
+            String invalid = validateActualValue(kr, update.getActualValue());
+            if (invalid != null) {
+                results.add(failedItem(kr.getId(), ActualValueBatchResult.Status.INVALID, invalid));
+                continue;
+            }
+
+            // Managed entity: the change is written by the batched flush at commit
+            kr.setActualValue(update.getActualValue());
+            updated++;
+            results.add(ActualValueBatchResult.Item.builder()
+                    .id(kr.getId())
+                    .status(ActualValueBatchResult.Status.UPDATED)
+                    .build());
+
+            Department dept = kr.getObjective().getDepartment();
+            if (dept != null) {
+                affectedDepartments.add(dept.getId());
+            }
+        }
+
+        // One recomputation per department, however many of its key results changed
+        affectedDepartments.forEach(departmentId -> eventPublisher.publishEvent(new DepartmentChangedEvent(departmentId)));
+
+        return ActualValueBatchResult.builder()
+                .updated(updated)
+                .failed(updates.size() - updated)
+                .departmentsAffected(affectedDepartments.size())
+                .results(results)
+                .build();
+    }
+
+    // Reason the value cannot be stored, or null if it is acceptable for the key result's metric type
+    private String validateActualValue(KeyResult kr, String actualValue) {
+        if (actualValue == null || actualValue.isBlank()) {
+            return null;
+        }
+        if (kr.getMetricType() == KeyResult.MetricType.QUALITATIVE) {
+            return QUALITATIVE_GRADES.contains(actualValue.trim().toUpperCase())
+                    ? null
+                    : "Qualitative actual value must be one of " + String.join(", ", QUALITATIVE_GRADES);
+        }
+        String value = actualValue.trim();
+        return DECIMAL.matcher(value).matches() && Double.isFinite(Double.parseDouble(value))
+                ? null
+                : "Actual value must be a finite number";
+    }
+
+    private ActualValueBatchResult.Item failedItem(UUID id, ActualValueBatchResult.Status status, String message) {
+        return ActualValueBatchResult.Item.builder()
+                .id(id)
+                .status(status)
+                .message(message)
+                .build();
+    }
+
+    @Transactional
+    public void deleteKeyResult(UUID id) {
+        keyResultRepository.findById(id).ifPresent(kr -> publishDepartmentChanged(kr.getObjective()));
         keyResultRepository.deleteById(id);
     }
 
+    private void publishDepartmentChanged(Objective obj) {
+        if (obj.getDepartment() != null) {
+            eventPublisher.publishEvent(new DepartmentChangedEvent(obj.getDepartment().getId()));
+        }
+    }
+
     // ==================== DTO MAPPERS ====================
 
     private DepartmentDTO toDepartmentDTO(Department dept) {
-        List<ObjectiveDTO> objectives = dept.getObjectives().stream()
-                .map(this::toObjectiveDTO)
-                .collect(Collectors.toList());
+        // Score every key result, objective and the department exactly once
+        return toDepartmentDTO(dept, scoreService.calculateDepartmentScoreTree(dept));
+    }
 
-        // Get automatic OKR score
-        ScoreResult okrScore = scoreService.calculateDepartmentScore(dept.getObjectives());
+    private DepartmentDTO toDepartmentDTO(Department dept, ScoreTree scores) {
+        return toDepartmentDTO(dept, scores, DepartmentInclude.all());
+    }
 
-        // Get full evaluation result including final combined score
-        DepartmentScoreResult evalResult = scoreService.calculateDepartmentScoreWithEvaluations(dept.getId(), dept.getObjectives());
+    private DepartmentDTO toDepartmentDTO(Department dept, ScoreTree scores, Set<DepartmentInclude> include) {
+        DepartmentDTO.DepartmentDTOBuilder dto = DepartmentDTO.builder()
+                .id(dept.getId())
+                .name(dept.getName())
+                .score(scores.getDepartmentScore()); // Automatic OKR score
 
-        // Create final score result if all evaluations are present
-        ScoreResult finalScore = null;
-        if (evalResult.getFinalCombinedScore() != null) {
-            finalScore = ScoreResult.builder()
-                    .score(evalResult.getFinalCombinedScore())
-                    .level(evalResult.getScoreLevel())
-                    .color(evalResult.getColor())
-                    .percentage(evalResult.getFinalPercentage())
-                    .build();
+        if (include.contains(DepartmentInclude.OBJECTIVES)) {
+            boolean withKeyResults = include.contains(DepartmentInclude.KEY_RESULTS);
+            dto.objectives(dept.getObjectives().stream()
+                    .map(obj -> toObjectiveDTO(obj, scores, withKeyResults))
+                    .collect(Collectors.toList()));
         }
 
-        boolean hasAllEvaluations = evalResult.getHasDirectorEvaluation() && evalResult.getHasHrEvaluation();
+        if (include.contains(DepartmentInclude.EVALUATIONS)) {
+            // Full evaluation result including final combined score
+            DepartmentScoreResult evalResult = scores.getScoreWithEvaluations();
+            dto.finalScore(toFinalScore(evalResult.getFinalCombinedScore(), evalResult.getScoreLevel(),
+                            evalResult.getColor(), evalResult.getFinalPercentage()))
+                    .hasAllEvaluations(evalResult.getHasDirectorEvaluation() && evalResult.getHasHrEvaluation());
+        }
 
-        return DepartmentDTO.builder()
-                .id(dept.getId())
-                .name(dept.getName())
-                .objectives(objectives)
-                .score(okrScore)
-                .finalScore(finalScore)
-                .hasAllEvaluations(hasAllEvaluations)
+        return dto.build();
+    }
+
+    private DepartmentSummaryDTO toSummaryDTO(DepartmentSummaryRow row) {
+        return DepartmentSummaryDTO.builder()
+                .id(row.id())
+                .name(row.name())
+                .score(ScoreResult.builder()
+                        .score(row.automaticOkrScore())
+                        .level(row.automaticOkrLevel())
+                        .color(row.automaticOkrColor())
+                        .percentage(row.automaticOkrPercentage())
+                        .build())
+                .finalScore(toFinalScore(row.finalCombinedScore(), row.scoreLevel(), row.color(), row.finalPercentage()))
+                .hasAllEvaluations(Boolean.TRUE.equals(row.hasDirectorEvaluation())
+                        && Boolean.TRUE.equals(row.hasHrEvaluation()))
+                .hasDirectorEvaluation(row.hasDirectorEvaluation())
+                .hasHrEvaluation(row.hasHrEvaluation())
+                .hasBusinessBlockEvaluation(row.hasBusinessBlockEvaluation())
+                .build();
+    }
+
+    private DepartmentSummaryDTO toSummaryDTO(DepartmentSummaryRow row, ScoreTree scores) {
+        DepartmentScoreResult evalResult = scores.getScoreWithEvaluations();
+        return DepartmentSummaryDTO.builder()
+                .id(row.id())
+                .name(row.name())
+                .score(scores.getDepartmentScore())
+                .finalScore(toFinalScore(evalResult.getFinalCombinedScore(), evalResult.getScoreLevel(),
+                        evalResult.getColor(), evalResult.getFinalPercentage()))
+                .hasAllEvaluations(evalResult.getHasDirectorEvaluation() && evalResult.getHasHrEvaluation())
+                .hasDirectorEvaluation(evalResult.getHasDirectorEvaluation())
+                .hasHrEvaluation(evalResult.getHasHrEvaluation())
+                .hasBusinessBlockEvaluation(evalResult.getHasBusinessBlockEvaluation())
+                .build();
+    }
+
+    /**
+     * Department without objectives, read from its precomputed department_scores row
+     */
+    private DepartmentDTO toDepartmentSummary(DepartmentRow row, DepartmentScore score, Set<DepartmentInclude> include) {
+        DepartmentDTO.DepartmentDTOBuilder dto = DepartmentDTO.builder()
+                .id(row.id())
+                .name(row.name())
+                .score(ScoreResult.builder()
+                        .score(score.getAutomaticOkrScore())
+                        .level(score.getAutomaticOkrLevel())
+                        .color(score.getAutomaticOkrColor())
+                        .percentage(score.getAutomaticOkrPercentage())
+                        .build());
+
+        if (include.contains(DepartmentInclude.EVALUATIONS)) {
+            dto.finalScore(toFinalScore(score.getFinalCombinedScore(), score.getScoreLevel(),
+                            score.getColor(), score.getFinalPercentage()))
+                    .hasAllEvaluations(Boolean.TRUE.equals(score.getHasDirectorEvaluation())
+                            && Boolean.TRUE.equals(score.getHasHrEvaluation()));
+        }
+
+        return dto.build();
+    }
+
+    // Final score result, present only once all evaluations are in
+    private static ScoreResult toFinalScore(Double score, String level, String color, Double percentage) {
+        if (score == null) {
+            return null;
+        }
+        return ScoreResult.builder()
+                .score(score)
+                .level(level)
+                .color(color)
+                .percentage(percentage)
                 .build();
     }
 
     private ObjectiveDTO toObjectiveDTO(Objective obj) {
-        List<KeyResultDTO> keyResults = obj.getKeyResults().stream()
-                .map(this::toKeyResultDTO)
-                .collect(Collectors.toList());
+        return toObjectiveDTO(obj, scoreService.calculateObjectiveScoreTree(obj));
+    }
+
+    private ObjectiveDTO toObjectiveDTO(Objective obj, ScoreTree scores) {
+        return toObjectiveDTO(obj, scores, true);
+    }
+
+    private ObjectiveDTO toObjectiveDTO(Objective obj, ScoreTree scores, boolean withKeyResults) {
+        List<KeyResultDTO> keyResults = withKeyResults
+                ? obj.getKeyResults().stream()
+                        .map(kr -> toKeyResultDTO(kr, scores.getKeyResultScore(kr.getId())))
+                        .collect(Collectors.toList())
+                : null;
 
         return ObjectiveDTO.builder()
                 .id(obj.getId())
@@ -261,11 +753,15 @@ public class OkrService {
                 .weight(obj.getWeight())
                 .departmentId(obj.getDepartment().getId())
                 .keyResults(keyResults)
-                .score(scoreService.calculateObjectiveScore(obj.getKeyResults()))
+                .score(scores.getObjectiveScore(obj.getId()))
                 .build();
     }
 
     private KeyResultDTO toKeyResultDTO(KeyResult kr) {
+        return toKeyResultDTO(kr, scoreService.calculateKeyResultScore(kr));
+    }
+
+    private KeyResultDTO toKeyResultDTO(KeyResult kr, ScoreResult score) {
         return KeyResultDTO.builder()
                 .id(kr.getId())
                 .name(kr.getName())
@@ -282,211 +778,212 @@ public class OkrService {
                         .build())
                 .actualValue(kr.getActualValue())
                 .objectiveId(kr.getObjective().getId())
-                .score(scoreService.calculateKeyResultScore(kr))
+                .score(score)
                 .build();
     }
 
     @Transactional
     public List<DepartmentDTO> loadDemoData() {
-        try {
-            System.out.println("Loading demo data...");
-
-            // Clear existing data in correct order to respect foreign key constraints:
-            // 1. First delete evaluations (no dependencies)
-            evaluationRepository.deleteAll();
-            System.out.println("  - Cleared evaluations");
-
-            // 2. Unassign all users from departments (to break FK constraint)
-            var allUsers = userRepository.findAll();
-            for (var user : allUsers) {
-                user.setDepartment(null);
-            }
-            userRepository.saveAll(allUsers);
-            System.out.println("  - Unassigned users from departments");
+        System.out.println("Loading demo data...");
 
-            // 3. Clear department leaders (to break FK constraint)
-            var allDepts = departmentRepository.findAll();
-            for (var dept : allDepts) {
-                dept.setDepartmentLeader(null);
-            }
-            departmentRepository.saveAll(allDepts);
-            System.out.println("  - Cleared department leaders");
-
-            // 4. Now we can safely delete departments (objectives cascade delete automatically)
-            departmentRepository.deleteAll();
-            System.out.println("  - Deleted all departments and objectives");
-
-            // 5. Finally delete users
-            userRepository.deleteAll();
-            System.out.println("  - Deleted all users");
-
-            // Flush deletes before creating new data
-            entityManager.flush();
-
-            // Create PMO department with demo objectives
-            Department pmoDept = new Department();
-            pmoDept.setName("PMO - Project Management Office");
-            pmoDept = departmentRepository.save(pmoDept);
-
-            // ==================== CREATE DEMO USERS ====================
-
-            // 1. Create Admin user
-            com.example.objectkeyresulttracker.entity.User admin = com.example.objectkeyresulttracker.entity.User.builder()
-                    .username("admin")
-                    .email("admin@okr-tracker.com")
-                    .password(passwordEncoder.encode("admin123"))
-                    .fullName("System Administrator")
-                    .role(com.example.objectkeyresulttracker.entity.Role.ADMIN)
-                    .build();
-            admin = userRepository.save(admin);
-
-            // 2. Create Director user
-            com.example.objectkeyresulttracker.entity.User director = com.example.objectkeyresulttracker.entity.User.builder()
-                    .username("director")
-                    .email("director@okr-tracker.com")
-                    .password(passwordEncoder.encode("director123"))
-                    .fullName("Алишер Каримов")
-                    .role(com.example.objectkeyresulttracker.entity.Role.DIRECTOR)
-                    .build();
-            director = userRepository.save(director);
-
-            // 3. Create HR user
-            com.example.objectkeyresulttracker.entity.User hr = com.example.objectkeyresulttracker.entity.User.builder()
-                    .username("hr")
-                    .email("hr@okr-tracker.com")
-                    .password(passwordEncoder.encode("hr123"))
-                    .fullName("Гульнора Азимова")
-                    .role(com.example.objectkeyresulttracker.entity.Role.HR)
-                    .build();
-            hr = userRepository.save(hr);
-
-            // 4. Create Business Block user
-            com.example.objectkeyresulttracker.entity.User businessBlock = com.example.objectkeyresulttracker.entity.User.builder()
-                    .username("business")
-                    .email("business@okr-tracker.com")
-                    .password(passwordEncoder.encode("business123"))
-                    .fullName("Шерзод Рахимов")
-                    .role(com.example.objectkeyresulttracker.entity.Role.BUSINESS_BLOCK)
-                    .build();
-            businessBlock = userRepository.save(businessBlock);
-
-            // 5. Create Department Leader for PMO
-            com.example.objectkeyresulttracker.entity.User deptLeader = com.example.objectkeyresulttracker.entity.User.builder()
-                    .username("pmo_leader")
-                    .email("pmo.leader@okr-tracker.com")
-                    .password(passwordEncoder.encode("leader123"))
-                    .fullName("Умида Усманова")
-                    .role(com.example.objectkeyresulttracker.entity.Role.DEPARTMENT_LEADER)
-                    .department(pmoDept)
-                    .build();
-            deptLeader = userRepository.save(deptLeader);
-
-            // 6. Create Employee users
-            com.example.objectkeyresulttracker.entity.User employee1 = com.example.objectkeyresulttracker.entity.User.builder()
-                    .username("employee1")
-                    .email("employee1@okr-tracker.com")
-                    .password(passwordEncoder.encode("employee123"))
-                    .fullName("Бахром Иброхимов")
-                    .role(com.example.objectkeyresulttracker.entity.Role.EMPLOYEE)
-                    .department(pmoDept)
-                    .build();
-            employee1 = userRepository.save(employee1);
-
-            com.example.objectkeyresulttracker.entity.User employee2 = com.example.objectkeyresulttracker.entity.User.builder()
-                    .username("employee2")
-                    .email("employee2@okr-tracker.com")
-                    .password(passwordEncoder.encode("employee123"))
-                    .fullName("Дилноза Турсунова")
-                    .role(com.example.objectkeyresulttracker.entity.Role.EMPLOYEE)
-                    .department(pmoDept)
-                    .build();
-            employee2 = userRepository.save(employee2);
-
-            // Link department leader to PMO department
-            pmoDept.setDepartmentLeader(deptLeader);
-            pmoDept = departmentRepository.save(pmoDept);
+        // Clear existing data in correct order to respect foreign key constraints:
+        // 1. First delete evaluations (no dependencies)
+        evaluationRepository.deleteAll();
+        System.out.println("  - Cleared evaluations");
+
+        // 2. Unassign all users from departments (to break FK constraint)
+        var allUsers = userRepository.findAll();
+        for (var user : allUsers) {
+            user.setDepartment(null);
+        }
+        userRepository.saveAll(allUsers);
+        System.out.println("  - Unassigned users from departments");
+
+        // 3. Clear department leaders (to break FK constraint)
+        var allDepts = departmentRepository.findAll();
+        for (var dept : allDepts) {
+            dept.setDepartmentLeader(null);
+        }
+        departmentRepository.saveAll(allDepts);
+        System.out.println("  - Cleared department leaders");
+
+        // 4. Now we can safely delete departments (objectives cascade delete automatically)
+        departmentRepository.deleteAll();
+        System.out.println("  - Deleted all departments and objectives");
+
+        // 5. Finally delete users
+        userRepository.deleteAll();
+        System.out.println("  - Deleted all users");
+
+        // Flush deletes before creating new data
+        entityManager.flush();
+
+        // Create PMO department with demo objectives
+        Department pmoDept = new Department();
+        pmoDept.setName("PMO - Project Management Office");
+        pmoDept = departmentRepository.save(pmoDept);
+
+        // ==================== CREATE DEMO USERS ====================
+
+        // 1. Create Admin user
+        com.example.objectkeyresulttracker.entity.User admin = com.example.objectkeyresulttracker.entity.User.builder()
+                .username("admin")
+                .email("admin@okr-tracker.com")
+                .password(passwordEncoder.encode("admin123"))
+                .fullName("System Administrator")
+                .role(com.example.objectkeyresulttracker.entity.Role.ADMIN)
+                .build();
+        admin = userRepository.save(admin);
+
+        // 2. Create Director user
+        com.example.objectkeyresulttracker.entity.User director = com.example.objectkeyresulttracker.entity.User.builder()
+                .username("director")
+                .email("director@okr-tracker.com")
+                .password(passwordEncoder.encode("director123"))
+                .fullName("Алишер Каримов")
+                .role(com.example.objectkeyresulttracker.entity.Role.DIRECTOR)
+                .build();
+        director = userRepository.save(director);
+
+        // 3. Create HR user
+        com.example.objectkeyresulttracker.entity.User hr = com.example.objectkeyresulttracker.entity.User.builder()
+                .username("hr")
+                .email("hr@okr-tracker.com")
+                .password(passwordEncoder.encode("hr123"))
+                .fullName("Гульнора Азимова")
+                .role(com.example.objectkeyresulttracker.entity.Role.HR)
+                .build();
+        hr = userRepository.save(hr);
+
+        // 4. Create Business Block user
+        com.example.objectkeyresulttracker.entity.User businessBlock = com.example.objectkeyresulttracker.entity.User.builder()
+                .username("business")
+                .email("business@okr-tracker.com")
+                .password(passwordEncoder.encode("business123"))
+                .fullName("Шерзод Рахимов")
+                .role(com.example.objectkeyresulttracker.entity.Role.BUSINESS_BLOCK)
+                .build();
+        businessBlock = userRepository.save(businessBlock);
+
+        // 5. Create Department Leader for PMO
+        com.example.objectkeyresulttracker.entity.User deptLeader = com.example.objectkeyresulttracker.entity.User.builder()
+                .username("pmo_leader")
+                .email("pmo.leader@okr-tracker.com")
+                .password(passwordEncoder.encode("leader123"))
+                .fullName("Умида Усманова")
+                .role(com.example.objectkeyresulttracker.entity.Role.DEPARTMENT_LEADER)
+                .department(pmoDept)
+                .build();
+        deptLeader = userRepository.save(deptLeader);
+
+        // 6. Create Employee users
+        com.example.objectkeyresulttracker.entity.User employee1 = com.example.objectkeyresulttracker.entity.User.builder()
+                .username("employee1")
+                .email("employee1@okr-tracker.com")
+                .password(passwordEncoder.encode("employee123"))
+                .fullName("Бахром Иброхимов")
+                .role(com.example.objectkeyresulttracker.entity.Role.EMPLOYEE)
+                .department(pmoDept)
+                .build();
+        employee1 = userRepository.save(employee1);
+
+        com.example.objectkeyresulttracker.entity.User employee2 = com.example.objectkeyresulttracker.entity.User.builder()
+                .username("employee2")
+                .email("employee2@okr-tracker.com")
+                .password(passwordEncoder.encode("employee123"))
+                .fullName("Дилноза Турсунова")
+                .role(com.example.objectkeyresulttracker.entity.Role.EMPLOYEE)
+                .department(pmoDept)
+                .build();
+        employee2 = userRepository.save(employee2);
+
+        // Link department leader to PMO department
+        pmoDept.setDepartmentLeader(deptLeader);
+        pmoDept = departmentRepository.save(pmoDept);
 
         // Цель 1: Обеспечить своевременную реализацию проектов (20%)
         createDemoObjective(pmoDept, "Цель 1: Обеспечить своевременную реализацию проектов", 20,
-                new DemoKR[]{
-                        new DemoKR("KR1.1 Проекты завершенные в срок (% от кол-ва проектов)", KeyResult.MetricType.HIGHER_BETTER, "%", 40, 50.0, 60.0, 80.0, 100.0, 120.0, "0"),
-                        new DemoKR("KR1.2 Задачи в JIRA, завершенные в срок (%)", KeyResult.MetricType.HIGHER_BETTER, "%", 35, 50.0, 65.0, 95.0, 100.0, 200.0, "0"),
-                        new DemoKR("KR1.3 Переносы сроков заверш задач в JIRA (% от общего кол-ва)", KeyResult.MetricType.LOWER_BETTER, "%", 25, 30.0, 20.0, 15.0, 5.0, 0.0, "0")
-                });
+            new DemoKR[]{
+                    new DemoKR("KR1.1 Проекты завершенные в срок (% от кол-ва проектов)", KeyResult.MetricType.HIGHER_BETTER, "%", 40, 50.0, 60.0, 80.0, 100.0, 120.0, "0"),
+                    new DemoKR("KR1.2 Задачи в JIRA, завершенные в срок (%)", KeyResult.MetricType.HIGHER_BETTER, "%", 35, 50.0, 65.0, 95.0, 100.0, 200.0, "0"),
+                    new DemoKR("KR1.3 Переносы сроков заверш задач в JIRA (% от общего кол-ва)", KeyResult.MetricType.LOWER_BETTER, "%", 25, 30.0, 20.0, 15.0, 5.0, 0.0, "0")
+            });
 
         // Цель 2: Управление рисками и бюджетом проектов (20%)
         createDemoObjective(pmoDept, "Цель 2: Управление рисками и бюджетом проектов", 20,
-                new DemoKR[]{
-                        new DemoKR("KR2.1 Проекты в рамках бюджетов (% без превышения)", KeyResult.MetricType.HIGHER_BETTER, "%", 30, 50.0, 60.0, 75.0, 90.0, 100.0, "0"),
-                        new DemoKR("KR2.2 Неучтенные риски возникшие после начала проекта (кол-во)", KeyResult.MetricType.LOWER_BETTER, "", 25, 10.0, 5.0, 2.0, 1.0, 0.0, "0"),
-                        new DemoKR("KR2.3 Повысить точность оценки трудозатрат до 75%", KeyResult.MetricType.HIGHER_BETTER, "%", 25, 50.0, 75.0, 80.0, 85.0, 100.0, "0"),
-                        new DemoKR("KR2.4 Процент рисков с планами митигации (%)", KeyResult.MetricType.HIGHER_BETTER, "%", 20, 20.0, 50.0, 60.0, 80.0, 100.0, "0")
-                });
+            new DemoKR[]{
+                    new DemoKR("KR2.1 Проекты в рамках бюджетов (% без превышения)", KeyResult.MetricType.HIGHER_BETTER, "%", 30, 50.0, 60.0, 75.0, 90.0, 100.0, "0"),
+                    new DemoKR("KR2.2 Неучтенные риски возникшие после начала проекта (кол-во)", KeyResult.MetricType.LOWER_BETTER, "", 25, 10.0, 5.0, 2.0, 1.0, 0.0, "0"),
+                    new DemoKR("KR2.3 Повысить точность оценки трудозатрат до 75%", KeyResult.MetricType.HIGHER_BETTER, "%", 25, 50.0, 75.0, 80.0, 85.0, 100.0, "0"),
+                    new DemoKR("KR2.4 Процент рисков с планами митигации (%)", KeyResult.MetricType.HIGHER_BETTER, "%", 20, 20.0, 50.0, 60.0, 80.0, 100.0, "0")
+            });
 
         // Цель 3: Управление качеством и отчетность (20%)
         createDemoObjective(pmoDept, "Цель 3: Управление качеством и отчетность", 20,
-                new DemoKR[]{
-                        new DemoKR("KR3.1 Своевременность отчетов W,Q,Y, другие (задержка, дней)", KeyResult.MetricType.LOWER_BETTER, " дней", 25, 5.0, 3.0, 2.0, 1.0, 0.0, "0"),
-                        new DemoKR("KR3.2 Уровень использования ресурсов (resource utilization) %", KeyResult.MetricType.HIGHER_BETTER, "%", 25, 75.0, 85.0, 90.0, 95.0, 100.0, "0"),
-                        new DemoKR("KR3.3 Реагирование на изменения (Response time to changes) часы", KeyResult.MetricType.LOWER_BETTER, " часов", 25, 5.0, 3.0, 2.0, 1.0, 0.0, "0"),
-                        new DemoKR("KR3.4 Среднее время от инициации до завершения проекта (нед)", KeyResult.MetricType.LOWER_BETTER, " нед", 25, 10.0, 8.0, 6.0, 5.0, 4.0, "0")
-                });
+            new DemoKR[]{
+                    new DemoKR("KR3.1 Своевременность отчетов W,Q,Y, другие (задержка, дней)", KeyResult.MetricType.LOWER_BETTER, " дней", 25, 5.0, 3.0, 2.0, 1.0, 0.0, "0"),
+                    new DemoKR("KR3.2 Уровень использования ресурсов (resource utilization) %", KeyResult.MetricType.HIGHER_BETTER, "%", 25, 75.0, 85.0, 90.0, 95.0, 100.0, "0"),
+                    new DemoKR("KR3.3 Реагирование на изменения (Response time to changes) часы", KeyResult.MetricType.LOWER_BETTER, " часов", 25, 5.0, 3.0, 2.0, 1.0, 0.0, "0"),
+                    new DemoKR("KR3.4 Среднее время от инициации до завершения проекта (нед)", KeyResult.MetricType.LOWER_BETTER, " нед", 25, 10.0, 8.0, 6.0, 5.0, 4.0, "0")
+            });
 
         // Цель 4: Усиление состава и человеческий капитал (10%) - includes qualitative KR
         createDemoObjective(pmoDept, "Цель 4: Усиление состава и человеческий капитал", 10,
-                new DemoKR[]{
-                        new DemoKR("KR4.1 Комплектация штата (6 свободных вакансий в штате)", KeyResult.MetricType.HIGHER_BETTER, "", 35, 2.0, 3.0, 4.0, 5.0, 6.0, "0"),
-                        new DemoKR("KR4.2 Набор и подготовка стажеров (16 вакансий)", KeyResult.MetricType.HIGHER_BETTER, "", 35, 3.0, 6.0, 10.0, 12.0, 16.0, "0"),
-                        new DemoKR("KR4.3 Качество развития сотрудников (оценка)", KeyResult.MetricType.QUALITATIVE, "", 30, 0.0, 0.0, 0.0, 0.0, 0.0, "C", "Качественная оценка программы развития сотрудников. A=Отлично, B=Очень хорошо, C=Хорошо, D=Удовлетворительно, E=Неудовлетворительно")
-                });
+            new DemoKR[]{
+                    new DemoKR("KR4.1 Комплектация штата (6 свободных вакансий в штате)", KeyResult.MetricType.HIGHER_BETTER, "", 35, 2.0, 3.0, 4.0, 5.0, 6.0, "0"),
+                    new DemoKR("KR4.2 Набор и подготовка стажеров (16 вакансий)", KeyResult.MetricType.HIGHER_BETTER, "", 35, 3.0, 6.0, 10.0, 12.0, 16.0, "0"),
+                    new DemoKR("KR4.3 Качество развития сотрудников (оценка)", KeyResult.MetricType.QUALITATIVE, "", 30, 0.0, 0.0, 0.0, 0.0, 0.0, "C", "Качественная оценка программы развития сотрудников. A=Отлично, B=Очень хорошо, C=Хорошо, D=Удовлетворительно, E=Неудовлетворительно")
+            });
 
         // Цель 5: Улучшение продуктов (10%)
         createDemoObjective(pmoDept, "Цель 5: Улучшение продуктов", 10,
-                new DemoKR[]{
-                        new DemoKR("KR5.1 Увеличить долю проектов, связанных со стратегическими целями Банка, до 85%", KeyResult.MetricType.HIGHER_BETTER, "%", 30, 75.0, 85.0, 90.0, 95.0, 100.0, "0"),
-                        new DemoKR("KR5.2 % продуктов с повторными багами (Defect/error rate)", KeyResult.MetricType.LOWER_BETTER, "%", 30, 20.0, 15.0, 10.0, 5.0, 0.0, "0"),
-                        new DemoKR("KR5.3 Обеспечить участие 100% членов команды в обучении по Agile/Scrum", KeyResult.MetricType.HIGHER_BETTER, "%", 20, 80.0, 90.0, 95.0, 100.0, 100.0, "0"),
-                        new DemoKR("KR5.4 Провести 6 внутренних воркшопов по методологиям и новым технологиям", KeyResult.MetricType.HIGHER_BETTER, "", 20, 4.0, 6.0, 7.0, 8.0, 9.0, "0")
-                });
+            new DemoKR[]{
+                    new DemoKR("KR5.1 Увеличить долю проектов, связанных со стратегическими целями Банка, до 85%", KeyResult.MetricType.HIGHER_BETTER, "%", 30, 75.0, 85.0, 90.0, 95.0, 100.0, "0"),
+                    new DemoKR("KR5.2 % продуктов с повторными багами (Defect/error rate)", KeyResult.MetricType.LOWER_BETTER, "%", 30, 20.0, 15.0, 10.0, 5.0, 0.0, "0"),
+                    new DemoKR("KR5.3 Обеспечить участие 100% членов команды в обучении по Agile/Scrum", KeyResult.MetricType.HIGHER_BETTER, "%", 20, 80.0, 90.0, 95.0, 100.0, 100.0, "0"),
+                    new DemoKR("KR5.4 Провести 6 внутренних воркшопов по методологиям и новым технологиям", KeyResult.MetricType.HIGHER_BETTER, "", 20, 4.0, 6.0, 7.0, 8.0, 9.0, "0")
+            });
 
         // Цель 6: Системная и бизнес аналитика и ее автоматизация (20%)
         createDemoObjective(pmoDept, "Цель 6: Системная и бизнес аналитика и ее автоматизация", 20,
-                new DemoKR[]{
-                        new DemoKR("KR6.1 Уровень автоматизации процессов проектного управления", KeyResult.MetricType.HIGHER_BETTER, "%", 40, 75.0, 85.0, 90.0, 95.0, 100.0, "0"),
-                        new DemoKR("KR6.2 Качество описание бизнес процессов (изменение BPMN) %", KeyResult.MetricType.LOWER_BETTER, "%", 30, 20.0, 15.0, 10.0, 5.0, 0.0, "0"),
-                        new DemoKR("KR6.3 Процент изменений плана проекта после планирования", KeyResult.MetricType.LOWER_BETTER, "%", 30, 20.0, 15.0, 10.0, 5.0, 0.0, "0")
-                });
-
-            // ==================== DEMO EVALUATIONS REMOVED ====================
-            // Evaluations are not pre-created so users can test the evaluation flow themselves
-            // Login as director/hr/business to submit evaluations
-
-            // Flush to ensure all data is persisted before fetching
-            entityManager.flush();
-            entityManager.clear(); // Clear the persistence context to force a fresh fetch
-
-            System.out.println("=".repeat(80));
-            System.out.println("DEMO DATA LOADED SUCCESSFULLY!");
-            System.out.println("=".repeat(80));
-            System.out.println("\nDemo Users Created:");
-            System.out.println("  1. Admin:          username='admin'      password='admin123'");
-            System.out.println("  2. Director:       username='director'   password='director123'");
-            System.out.println("  3. HR:             username='hr'         password='hr123'");
-            System.out.println("  4. Business Block: username='business'   password='business123'");
-            System.out.println("  5. Dept Leader:    username='pmo_leader' password='leader123'");
-            System.out.println("  6. Employee 1:     username='employee1'  password='employee123'");
-            System.out.println("  7. Employee 2:     username='employee2'  password='employee123'");
-            System.out.println("\nEvaluations:");
-            System.out.println("  - No pre-filled evaluations - login as director/hr/business to evaluate");
-            System.out.println("\nDepartment Score Calculation:");
-            System.out.println("  - Automatic OKR Score: Will be calculated from Key Results");
-            System.out.println("  - Final Score: (Auto × 60%) + (Director × 20%) + (HR × 20%)");
-            System.out.println("=".repeat(80));
-
-            return getAllDepartments();
-        } finally {
-            scoreService.clearCache();
-        }
+            new DemoKR[]{
+                    new DemoKR("KR6.1 Уровень автоматизации процессов проектного управления", KeyResult.MetricType.HIGHER_BETTER, "%", 40, 75.0, 85.0, 90.0, 95.0, 100.0, "0"),
+                    new DemoKR("KR6.2 Качество описание бизнес процессов (изменение BPMN) %", KeyResult.MetricType.LOWER_BETTER, "%", 30, 20.0, 15.0, 10.0, 5.0, 0.0, "0"),
+                    new DemoKR("KR6.3 Процент изменений плана проекта после планирования", KeyResult.MetricType.LOWER_BETTER, "%", 30, 20.0, 15.0, 10.0, 5.0, 0.0, "0")
+            });
+
+        // ==================== DEMO EVALUATIONS REMOVED ====================
+        // Evaluations are not pre-created so users can test the evaluation flow themselves
+        // Login as director/hr/business to submit evaluations
+
+        // Flush to ensure all data is persisted before fetching
+        entityManager.flush();
+        entityManager.clear(); // Clear the persistence context to force a fresh fetch
+
+        System.out.println("=".repeat(80));
+        System.out.println("DEMO DATA LOADED SUCCESSFULLY!");
+        System.out.println("=".repeat(80));
+        System.out.println("\nDemo Users Created:");
+        System.out.println("  1. Admin:          username='admin'      password='admin123'");
+        System.out.println("  2. Director:       username='director'   password='director123'");
+        System.out.println("  3. HR:             username='hr'         password='hr123'");
+        System.out.println("  4. Business Block: username='business'   password='business123'");
+        System.out.println("  5. Dept Leader:    username='pmo_leader' password='leader123'");
+        System.out.println("  6. Employee 1:     username='employee1'  password='employee123'");
+        System.out.println("  7. Employee 2:     username='employee2'  password='employee123'");
+        System.out.println("\nEvaluations:");
+        System.out.println("  - No pre-filled evaluations - login as director/hr/business to evaluate");
+        System.out.println("\nDepartment Score Calculation:");
+        System.out.println("  - Automatic OKR Score: Will be calculated from Key Results");
+        System.out.println("  - Final Score: (Auto × 60%) + (Director × 20%) + (HR × 20%)");
+        System.out.println("=".repeat(80));
+
+        eventPublisher.publishEvent(DepartmentChangedEvent.allDepartments());
+
+        // Scores of uncommitted data must not reach the score store
+        return findAllDepartmentTrees().stream()
+                .map(this::toDepartmentDTO)
+                .collect(Collectors.toList());
     }
 
     private void createDemoObjective(Department dept, String name, Integer weight, DemoKR[] krs) {
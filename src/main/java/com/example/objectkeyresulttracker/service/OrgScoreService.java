@@ -0,0 +1,244 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.dto.DepartmentScoreResult;
+import com.example.objectkeyresulttracker.dto.DepartmentSummaryDTO;
+import com.example.objectkeyresulttracker.dto.DepartmentSummaryRow;
+import com.example.objectkeyresulttracker.dto.OrgScoreDTO;
+import com.example.objectkeyresulttracker.dto.ScoreResult;
+import com.example.objectkeyresulttracker.dto.ScoreTree;
+import com.example.objectkeyresulttracker.entity.Department;
+import com.example.objectkeyresulttracker.entity.Evaluation;
+import com.example.objectkeyresulttracker.entity.EvaluatorType;
+import com.example.objectkeyresulttracker.repository.DepartmentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Organisation-wide score rollup.
+ *
+ * Like the department summaries, up-to-date department_scores rows are used as they are and
+ * departments the background worker has not caught up with are taken from the score store.
+ * Only the remaining department trees and their evaluations are loaded, in one read-only
+ * transaction, and the detached snapshot is scored in parallel on a bounded fork/join pool.
+ */
+@Slf4j
+@Service
+public class OrgScoreService {
+
+    // Departments scored sequentially by one fork/join task
+    private static final int SEQUENTIAL_THRESHOLD = 8;
+
+    private final DepartmentRepository departmentRepository;
+    private final DepartmentTreeReader departmentTreeReader;
+    private final ScoreCalculationService scoreService;
+    private final ScoreLevelRegistry scoreLevelRegistry;
+    private final DepartmentScoreStore scoreStore;
+    private final TransactionTemplate readTransaction;
+    private final ForkJoinPool pool;
+
+    public OrgScoreService(DepartmentRepository departmentRepository,
+                           DepartmentTreeReader departmentTreeReader,
+                           ScoreCalculationService scoreService,
+                           ScoreLevelRegistry scoreLevelRegistry,
+                           DepartmentScoreStore scoreStore,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${okr.org-score.parallelism:0}") int parallelism) {
+        this.departmentRepository = departmentRepository;
+        this.departmentTreeReader = departmentTreeReader;
+        this.scoreService = scoreService;
+        this.scoreLevelRegistry = scoreLevelRegistry;
+        this.scoreStore = scoreStore;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Math.min(4, Runtime.getRuntime().availableProcessors()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Organisation score with a per-department summary
+     */
+    public OrgScoreDTO getOrgScore() {
+        long stamp = scoreStore.stamp();
+        Snapshot snapshot = readTransaction.execute(status -> loadSnapshot());
+
+        long levelVersion = scoreLevelRegistry.current().getVersion();
+        Map<UUID, ScoreTree> scored = pool.invoke(new ScoreDepartmentsTask(snapshot, snapshot.missing()));
+        scored.forEach((id, tree) -> scoreStore.store(id, stamp, levelVersion, tree));
+
+        List<DepartmentSummaryDTO> departments = new ArrayList<>(snapshot.rows().size());
+        List<Double> displayScores = new ArrayList<>();
+        List<Double> okrScores = new ArrayList<>();
+        List<Double> finalScores = new ArrayList<>();
+
+        for (DepartmentSummaryRow row : snapshot.rows()) {
+            ScoreTree tree = snapshot.stored().containsKey(row.id())
+                    ? snapshot.stored().get(row.id())
+                    : scored.get(row.id());
+            if (!row.isCurrent() && tree == null) {
+                // Deleted between the summary query and the tree read
+                continue;
+            }
+            DepartmentSummaryDTO summary = row.isCurrent() ? toSummary(row) : toSummary(row, tree);
+            departments.add(summary);
+
+            okrScores.add(summary.getScore().getScore());
+            if (summary.getFinalScore() != null) {
+                finalScores.add(summary.getFinalScore().getScore());
+            }
+
+            // Same rule as the dashboard: final score when available, otherwise OKR score
+            ScoreResult display = summary.getFinalScore() != null ? summary.getFinalScore() : summary.getScore();
+            if (display.getScore() != null && display.getScore() > 0) {
+                displayScores.add(display.getScore());
+            }
+        }
+
+        return OrgScoreDTO.builder()
+                .score(scoreService.calculateAverageScore(displayScores))
+                .okrScore(scoreService.calculateAverageScore(okrScores))
+                .finalScore(finalScores.isEmpty() ? null : scoreService.calculateAverageScore(finalScores))
+                .departmentCount(departments.size())
+                .evaluatedDepartmentCount(finalScores.size())
+                .departments(departments)
+                .build();
+    }
+
+    // Read every department with its precomputed scores; load trees and evaluations only for
+    // departments whose row is outdated and that are missing from the score store
+    private Snapshot loadSnapshot() {
+        List<DepartmentSummaryRow> rows = departmentRepository.findSummaryRows();
+
+        Map<UUID, ScoreTree> stored = new HashMap<>();
+        List<UUID> missingIds = new ArrayList<>();
+        for (DepartmentSummaryRow row : rows) {
+            if (row.isCurrent()) {
+                continue;
+            }
+            ScoreTree tree = scoreStore.find(row.id());
+            if (tree != null) {
+                stored.put(row.id(), tree);
+            } else {
+                missingIds.add(row.id());
+            }
+        }
+
+        List<Department> missing = departmentTreeReader.read(missingIds);
+        Map<UUID, Map<EvaluatorType, Evaluation>> evaluations = missing.isEmpty()
+                ? Map.of()
+                : scoreService.getEvaluationsForTargets("DEPARTMENT", missing.stream().map(Department::getId).toList());
+
+        return new Snapshot(rows, stored, missing, evaluations);
+    }
+
+    private DepartmentSummaryDTO toSummary(DepartmentSummaryRow row) {
+        ScoreResult finalScore = null;
+        if (row.finalCombinedScore() != null) {
+            finalScore = ScoreResult.builder()
+                    .score(row.finalCombinedScore())
+                    .level(row.scoreLevel())
+                    .color(row.color())
+                    .percentage(row.finalPercentage())
+                    .build();
+        }
+
+        return DepartmentSummaryDTO.builder()
+                .id(row.id())
+                .name(row.name())
+                .score(ScoreResult.builder()
+                        .score(row.automaticOkrScore())
+                        .level(row.automaticOkrLevel())
+                        .color(row.automaticOkrColor())
+                        .percentage(row.automaticOkrPercentage())
+                        .build())
+                .finalScore(finalScore)
+                .hasAllEvaluations(Boolean.TRUE.equals(row.hasDirectorEvaluation())
+                        && Boolean.TRUE.equals(row.hasHrEvaluation()))
+                .hasDirectorEvaluation(row.hasDirectorEvaluation())
+                .hasHrEvaluation(row.hasHrEvaluation())
+                .hasBusinessBlockEvaluation(row.hasBusinessBlockEvaluation())
+                .build();
+    }
+
+    private DepartmentSummaryDTO toSummary(DepartmentSummaryRow row, ScoreTree tree) {
+        DepartmentScoreResult evalResult = tree.getScoreWithEvaluations();
+
+        ScoreResult finalScore = null;
+        if (evalResult.getFinalCombinedScore() != null) {
+            finalScore = ScoreResult.builder()
+                    .score(evalResult.getFinalCombinedScore())
+                    .level(evalResult.getScoreLevel())
+                    .color(evalResult.getColor())
+                    .percentage(evalResult.getFinalPercentage())
+                    .build();
+        }
+
+        return DepartmentSummaryDTO.builder()
+                .id(row.id())
+                .name(row.name())
+                .score(tree.getDepartmentScore())
+                .finalScore(finalScore)
+                .hasAllEvaluations(evalResult.getHasDirectorEvaluation() && evalResult.getHasHrEvaluation())
+                .hasDirectorEvaluation(evalResult.getHasDirectorEvaluation())
+                .hasHrEvaluation(evalResult.getHasHrEvaluation())
+                .hasBusinessBlockEvaluation(evalResult.getHasBusinessBlockEvaluation())
+                .build();
+    }
+
+    /**
+     * Department score rows, plus detached trees with the evaluations needed to score the outdated ones
+     */
+    private record Snapshot(List<DepartmentSummaryRow> rows,
+                            Map<UUID, ScoreTree> stored,
+                            List<Department> missing,
+                            Map<UUID, Map<EvaluatorType, Evaluation>> evaluations) {
+    }
+
+    /**
+     * Scores a range of departments, splitting it in halves until it is small enough
+     */
+    private class ScoreDepartmentsTask extends RecursiveTask<Map<UUID, ScoreTree>> {
+        private final Snapshot snapshot;
+        private final List<Department> departments;
+
+        ScoreDepartmentsTask(Snapshot snapshot, List<Department> departments) {
+            this.snapshot = snapshot;
+            this.departments = departments;
+        }
+
+        @Override
+        protected Map<UUID, ScoreTree> compute() {
+            if (departments.size() <= SEQUENTIAL_THRESHOLD) {
+                Map<UUID, ScoreTree> trees = new HashMap<>();
+                for (Department dept : departments) {
+                    trees.put(dept.getId(), scoreService.calculateDepartmentScoreTree(dept,
+                            scoreService.getEvaluationsForTarget(snapshot.evaluations(), dept.getId())));
+                }
+                return trees;
+            }
+
+            int middle = departments.size() / 2;
+            ScoreDepartmentsTask left = new ScoreDepartmentsTask(snapshot, departments.subList(0, middle));
+            ScoreDepartmentsTask right = new ScoreDepartmentsTask(snapshot, departments.subList(middle, departments.size()));
+            left.fork();
+            Map<UUID, ScoreTree> trees = right.compute();
+            trees.putAll(left.join());
+            return trees;
+        }
+    }
+}
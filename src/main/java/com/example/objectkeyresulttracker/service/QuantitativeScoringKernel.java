@@ -0,0 +1,206 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.entity.KeyResult;
+
+import java.util.Objects;
+
+/**
+ * Allocation-free scoring kernel for quantitative key results.
+ * Thresholds are prepared once per key result definition and score level version
+ * into primitive arrays; scoring a value then only walks those arrays.
+ */
+public final class QuantitativeScoringKernel {
+
+    private static final int THRESHOLD_COUNT = 5;
+
+    // Default threshold-to-score mapping (used if no score levels are configured)
+    private static final double[] DEFAULT_VALUES = {3.00, 4.25, 4.50, 4.75, 5.00};
+    private static final String[] DEFAULT_SLUGS = {"below", "meets", "good", "very_good", "exceptional"};
+    private static final int[] DEFAULT_LEVEL_INDEX = {0, 1, 2, 3, 4};
+
+    private QuantitativeScoringKernel() {
+    }
+
+    /**
+     * Prepare the thresholds of a key result for a score level snapshot.
+     * Null thresholds get the same defaults as the original calculation.
+     */
+    public static PreparedThresholds prepare(KeyResult.MetricType type,
+                                             Double below, Double meets, Double good, Double veryGood, Double exceptional,
+                                             ScoreLevelSnapshot levels) {
+        boolean lowerBetter = type != KeyResult.MetricType.HIGHER_BETTER;
+        boolean lowerDefaults = type == KeyResult.MetricType.LOWER_BETTER;
+
+        double[] thresholds = {
+                below != null ? below : (lowerDefaults ? 100.0 : 0.0),
+                meets != null ? meets : (lowerDefaults ? 75.0 : 25.0),
+                good != null ? good : 50.0,
+                veryGood != null ? veryGood : (lowerDefaults ? 25.0 : 75.0),
+                exceptional != null ? exceptional : (lowerDefaults ? 0.0 : 100.0)
+        };
+
+        double[] values;
+        String[] slugs;
+        String[] colors;
+        int[] levelIndex;
+        double minSpan;
+
+        if (levels.isEmpty()) {
+            // Default mapping checks thresholds in their declared order
+            values = DEFAULT_VALUES;
+            slugs = DEFAULT_SLUGS;
+            colors = new String[THRESHOLD_COUNT];
+            for (int i = 0; i < THRESHOLD_COUNT; i++) {
+                colors[i] = levels.colorForLevel(DEFAULT_SLUGS[i]);
+            }
+            levelIndex = DEFAULT_LEVEL_INDEX;
+            minSpan = 1;
+        } else {
+            // Map the 5 backend thresholds to dynamic score levels
+            int numLevels = levels.size();
+            values = new double[numLevels];
+            slugs = new String[numLevels];
+            colors = new String[numLevels];
+            for (int i = 0; i < numLevels; i++) {
+                values[i] = levels.getValue(i);
+                slugs[i] = levels.getSlug(i);
+                colors[i] = levels.getColor(i);
+            }
+            levelIndex = new int[]{
+                    0,
+                    Math.min(1, numLevels - 1),
+                    Math.min(2, numLevels - 1),
+                    Math.min(3, numLevels - 1),
+                    numLevels - 1
+            };
+            sortStable(thresholds, levelIndex, lowerBetter);
+            minSpan = 0.001;
+        }
+
+        return new PreparedThresholds(levels.getVersion(), type, below, meets, good, veryGood, exceptional,
+                lowerBetter, thresholds, levelIndex, values, slugs, colors, minSpan);
+    }
+
+    /**
+     * Score for an actual value, rounded to two decimals and clamped to the level range
+     */
+    public static double score(PreparedThresholds p, double actual) {
+        int last = THRESHOLD_COUNT - 1;
+        int segment = segment(p, actual);
+
+        double score;
+        if (segment < 0) {
+            score = p.values[0];
+        } else if (segment == last) {
+            score = p.values[p.levelIndex[segment]];
+        } else {
+            double current = p.thresholds[segment];
+            double next = p.thresholds[segment + 1];
+            double ratio = p.lowerBetter
+                    ? 1 - (actual - next) / Math.max(current - next, p.minSpan)
+                    : (actual - current) / Math.max(next - current, p.minSpan);
+            double startScore = p.values[p.levelIndex[segment]];
+            double endScore = p.values[p.levelIndex[segment + 1]];
+            score = startScore + ratio * (endScore - startScore);
+        }
+
+        score = Math.min(Math.max(score, p.values[0]), p.values[p.values.length - 1]);
+        return Math.round(score * 100.0) / 100.0;
+    }
+
+    /**
+     * Index of the score level an actual value falls into
+     */
+    public static int levelIndex(PreparedThresholds p, double actual) {
+        int segment = segment(p, actual);
+        return segment < 0 ? 0 : p.levelIndex[segment];
+    }
+
+    // Highest threshold the actual value reaches, or -1 if it reaches none
+    private static int segment(PreparedThresholds p, double actual) {
+        double[] thresholds = p.thresholds;
+        for (int i = THRESHOLD_COUNT - 1; i >= 0; i--) {
+            if (p.lowerBetter ? actual <= thresholds[i] : actual >= thresholds[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Stable insertion sort of thresholds (ascending, or descending for lower-better) with their level indexes
+    private static void sortStable(double[] thresholds, int[] levelIndex, boolean descending) {
+        for (int i = 1; i < thresholds.length; i++) {
+            double threshold = thresholds[i];
+            int index = levelIndex[i];
+            int j = i - 1;
+            while (j >= 0 && (descending ? thresholds[j] < threshold : thresholds[j] > threshold)) {
+                thresholds[j + 1] = thresholds[j];
+                levelIndex[j + 1] = levelIndex[j];
+                j--;
+            }
+            thresholds[j + 1] = threshold;
+            levelIndex[j + 1] = index;
+        }
+    }
+
+    /**
+     * Thresholds of one key result prepared for one score level version
+     */
+    public static final class PreparedThresholds {
+        private final long levelVersion;
+        private final KeyResult.MetricType type;
+        private final Double below, meets, good, veryGood, exceptional;
+        private final boolean lowerBetter;
+        private final double[] thresholds;
+        private final int[] levelIndex;
+        private final double[] values;
+        private final String[] slugs;
+        private final String[] colors;
+        private final double minSpan;
+
+        private PreparedThresholds(long levelVersion, KeyResult.MetricType type,
+                                   Double below, Double meets, Double good, Double veryGood, Double exceptional,
+                                   boolean lowerBetter, double[] thresholds, int[] levelIndex,
+                                   double[] values, String[] slugs, String[] colors, double minSpan) {
+            this.levelVersion = levelVersion;
+            this.type = type;
+            this.below = below;
+            this.meets = meets;
+            this.good = good;
+            this.veryGood = veryGood;
+            this.exceptional = exceptional;
+            this.lowerBetter = lowerBetter;
+            this.thresholds = thresholds;
+            this.levelIndex = levelIndex;
+            this.values = values;
+            this.slugs = slugs;
+            this.colors = colors;
+            this.minSpan = minSpan;
+        }
+
+        /**
+         * Whether these thresholds still match the key result definition and level version
+         */
+        public boolean matches(KeyResult kr, long version) {
+            return levelVersion == version
+                    && type == kr.getMetricType()
+                    && Objects.equals(below, kr.getThresholdBelow())
+                    && Objects.equals(meets, kr.getThresholdMeets())
+                    && Objects.equals(good, kr.getThresholdGood())
+                    && Objects.equals(veryGood, kr.getThresholdVeryGood())
+                    && Objects.equals(exceptional, kr.getThresholdExceptional());
+        }
+
+        public long getLevelVersion() {
+            return levelVersion;
+        }
+
+        public String getSlug(int levelIndex) {
+            return slugs[levelIndex];
+        }
+
+        public String getColor(int levelIndex) {
+            return colors[levelIndex];
+        }
+    }
+}
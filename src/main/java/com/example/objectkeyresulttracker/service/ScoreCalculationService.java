@@ -2,7 +2,8 @@ package com.example.objectkeyresulttracker.service;
 import com.example.objectkeyresulttracker.dto.*;
 import com.example.objectkeyresulttracker.entity.*;
 import com.example.objectkeyresulttracker.repository.EvaluationRepository;
-import com.example.objectkeyresulttracker.repository.ScoreLevelRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import java.util.*;
@@ -15,45 +16,14 @@ import static java.lang.Double.parseDouble;
 @Service
 public class ScoreCalculationService {
 
-    private final ScoreLevelRepository scoreLevelRepository;
+    private final ScoreLevelRegistry scoreLevelRegistry;
     private final EvaluationRepository evaluationRepository;
 
-    // Thread-local cache to avoid N+1 queries within a single request
-    private final ThreadLocal<List<ScoreLevel>> scoreLevelCache = new ThreadLocal<>();
-
-    public ScoreCalculationService(ScoreLevelRepository scoreLevelRepository, EvaluationRepository evaluationRepository) {
-        this.scoreLevelRepository = scoreLevelRepository;
+    public ScoreCalculationService(ScoreLevelRegistry scoreLevelRegistry, EvaluationRepository evaluationRepository) {
+        this.scoreLevelRegistry = scoreLevelRegistry;
         this.evaluationRepository = evaluationRepository;
     }
 
-    /**
-     * Get score levels with caching to avoid N+1 queries
-     */
-    private List<ScoreLevel> getScoreLevels() {
-        List<ScoreLevel> cached = scoreLevelCache.get();
-        if (cached == null) {
-            cached = scoreLevelRepository.findAllByOrderByDisplayOrderAsc();
-            scoreLevelCache.set(cached);
-        }
-        return cached;
-    }
-
-    /**
-     * Clear the thread-local cache (should be called after processing a request)
-     */
-    public void clearCache() {
-        scoreLevelCache.remove();
-    }
-
-    // Default fallback level definitions (used if DB is empty)
-    private static final Map<String, LevelInfo> DEFAULT_LEVELS = Map.of(
-            "below", new LevelInfo(3.0, 4.24, "#d9534f"),
-            "meets", new LevelInfo(4.25, 4.49, "#f0ad4e"),
-            "good", new LevelInfo(4.50, 4.74, "#5cb85c"),
-            "very_good", new LevelInfo(4.75, 4.99, "#28a745"),
-            "exceptional", new LevelInfo(5.00, 5.00, "#1e7b34")
-    );
-
     // Qualitative grades mapping
     private static final Map<String, QualitativeGrade> QUALITATIVE_GRADES = Map.of(
             "A", new QualitativeGrade(5.00, "exceptional"),
@@ -64,11 +34,22 @@ public class ScoreCalculationService {
     );
 
 
+    // Upper bound on prepared thresholds kept; deleted key results are never looked up again and age out
+    private static final int MAX_PREPARED_THRESHOLDS = 10_000;
+
+    // Prepared quantitative thresholds by key result id, for the current score level version
+    private final Cache<UUID, QuantitativeScoringKernel.PreparedThresholds> preparedThresholds = Caffeine.newBuilder()
+            .maximumSize(MAX_PREPARED_THRESHOLDS)
+            .build();
+    private volatile long preparedLevelVersion = -1;
+
     // calculate the score for a KR
 
     public ScoreResult calculateKeyResultScore(KeyResult kr) {
+        ScoreLevelSnapshot scoreLevels = scoreLevelRegistry.current();
+
         if (kr.getMetricType() == KeyResult.MetricType.QUALITATIVE) {
-            return calculateQualitativeScore(kr.getActualValue());
+            return calculateQualitativeScore(kr.getActualValue(), scoreLevels);
         }
 
         String actualValueStr = kr.getActualValue();
@@ -85,254 +66,82 @@ public class ScoreCalculationService {
         }
 
         // Log calculation inputs for debugging
-        log.debug("Calculating score for KR '{}': actual={}, type={}, thresholds=[below={}, meets={}, good={}, veryGood={}, exceptional={}]",
-                kr.getName(), actualValue, kr.getMetricType(),
-                kr.getThresholdBelow(), kr.getThresholdMeets(), kr.getThresholdGood(),
-                kr.getThresholdVeryGood(), kr.getThresholdExceptional());
-
-        ScoreResult result = calculateQuantitativeScore(
-                actualValue,
-                kr.getMetricType(),
-                kr.getThresholdBelow(),
-                kr.getThresholdMeets(),
-                kr.getThresholdGood(),
-                kr.getThresholdVeryGood(),
-                kr.getThresholdExceptional()
-        );
+        if (log.isDebugEnabled()) {
+            log.debug("Calculating score for KR '{}': actual={}, type={}, thresholds=[below={}, meets={}, good={}, veryGood={}, exceptional={}]",
+                    kr.getName(), actualValue, kr.getMetricType(),
+                    kr.getThresholdBelow(), kr.getThresholdMeets(), kr.getThresholdGood(),
+                    kr.getThresholdVeryGood(), kr.getThresholdExceptional());
+        }
+
+        QuantitativeScoringKernel.PreparedThresholds thresholds = getPreparedThresholds(kr, scoreLevels);
+        double score = QuantitativeScoringKernel.score(thresholds, actualValue);
+        int levelIndex = QuantitativeScoringKernel.levelIndex(thresholds, actualValue);
 
-        log.debug("KR '{}' score result: score={}, level={}", kr.getName(), result.getScore(), result.getLevel());
+        ScoreResult result = new ScoreResult(score, thresholds.getSlug(levelIndex), thresholds.getColor(levelIndex),
+                scoreLevels.toPercentage(score));
+
+        if (log.isDebugEnabled()) {
+            log.debug("KR '{}' score result: score={}, level={}", kr.getName(), result.getScore(), result.getLevel());
+        }
 
         return result;
     }
 
-    private ScoreResult calculateQualitativeScore(String grade) {
+    private ScoreResult calculateQualitativeScore(String grade, ScoreLevelSnapshot scoreLevels) {
         String normalizedGrade = grade != null ? grade.toUpperCase().trim() : "E";
         QualitativeGrade gradeInfo = QUALITATIVE_GRADES.getOrDefault(normalizedGrade,
                 QUALITATIVE_GRADES.get("E"));
 
-        return ScoreResult.builder()
-                .score(gradeInfo.score())
-                .level(gradeInfo.level())
-                .color(getColorForLevel(gradeInfo.level()))
-                .percentage(scoreToPercentage(gradeInfo.score()))
-                .build();
+        return new ScoreResult(gradeInfo.score(), gradeInfo.level(),
+                scoreLevels.colorForLevel(gradeInfo.level()), scoreLevels.toPercentage(gradeInfo.score()));
     }
 
-
-    private ScoreResult calculateQuantitativeScore(
-            double actual, KeyResult.MetricType type,
-            Double below, Double meets, Double good, Double veryGood, Double exceptional) {
-
-        // Handle null threshold values with sensible defaults
-        // For LOWER_BETTER: thresholds should be in descending order (below > meets > good > veryGood > exceptional)
-        // For HIGHER_BETTER: thresholds should be in ascending order (below < meets < good < veryGood < exceptional)
-        if (below == null) below = (type == KeyResult.MetricType.LOWER_BETTER) ? 100.0 : 0.0;
-        if (meets == null) meets = (type == KeyResult.MetricType.LOWER_BETTER) ? 75.0 : 25.0;
-        if (good == null) good = 50.0;
-        if (veryGood == null) veryGood = (type == KeyResult.MetricType.LOWER_BETTER) ? 25.0 : 75.0;
-        if (exceptional == null) exceptional = (type == KeyResult.MetricType.LOWER_BETTER) ? 0.0 : 100.0;
-
-        // Get dynamic score levels from database (cached)
-        List<ScoreLevel> scoreLevels = getScoreLevels();
-
-        // If no custom levels, use default threshold-to-score mapping
-        if (scoreLevels.isEmpty()) {
-            return calculateWithDefaultLevels(actual, type, below, meets, good, veryGood, exceptional);
-        }
-
-        // Create threshold-to-score-level mapping
-        // Map the 5 backend thresholds to dynamic score levels
-        // scoreLevels are sorted by scoreValue ascending: [lowest, ..., highest]
-        int numLevels = scoreLevels.size();
-
-        // Build a list of threshold-score pairs, sorted by threshold value
-        // For missing thresholds (null), we'll skip them
-        List<ThresholdScore> thresholdScores = new ArrayList<>();
-
-        if (below != null) thresholdScores.add(new ThresholdScore(below, 0));
-        if (meets != null) thresholdScores.add(new ThresholdScore(meets, Math.min(1, numLevels - 1)));
-        if (good != null) thresholdScores.add(new ThresholdScore(good, Math.min(2, numLevels - 1)));
-        if (veryGood != null) thresholdScores.add(new ThresholdScore(veryGood, Math.min(3, numLevels - 1)));
-        if (exceptional != null) thresholdScores.add(new ThresholdScore(exceptional, numLevels - 1));
-
-        // Sort thresholds based on metric type
-        if (type == KeyResult.MetricType.HIGHER_BETTER) {
-            thresholdScores.sort(Comparator.comparingDouble(ts -> ts.threshold));
-        } else {
-            thresholdScores.sort((ts1, ts2) -> Double.compare(ts2.threshold, ts1.threshold));
-        }
-
-        // Find which range the actual value falls into
-        double score = scoreLevels.get(0).getScoreValue();
-        String level = scoreLevels.get(0).getName().toLowerCase().replace(" ", "_");
-
-        if (type == KeyResult.MetricType.HIGHER_BETTER) {
-            // For HIGHER_BETTER, check from highest to lowest threshold
-            boolean found = false;
-            for (int i = thresholdScores.size() - 1; i >= 0; i--) {
-                ThresholdScore ts = thresholdScores.get(i);
-                if (actual >= ts.threshold) {
-                    int scoreIdx = ts.scoreLevelIndex;
-
-                    // If at the highest level, assign that score directly
-                    if (i == thresholdScores.size() - 1) {
-                        score = scoreLevels.get(scoreIdx).getScoreValue();
-                        level = scoreLevels.get(scoreIdx).getName().toLowerCase().replace(" ", "_");
-                    } else {
-                        // Interpolate between current and next threshold
-                        ThresholdScore nextTs = thresholdScores.get(i + 1);
-                        double ratio = (actual - ts.threshold) / Math.max(nextTs.threshold - ts.threshold, 0.001);
-                        double startScore = scoreLevels.get(scoreIdx).getScoreValue();
-                        double endScore = scoreLevels.get(nextTs.scoreLevelIndex).getScoreValue();
-                        score = startScore + ratio * (endScore - startScore);
-                        level = scoreLevels.get(scoreIdx).getName().toLowerCase().replace(" ", "_");
-                    }
-                    found = true;
-                    break;
-                }
-            }
-
-            if (!found) {
-                // Below all thresholds
-                score = scoreLevels.get(0).getScoreValue();
-                level = scoreLevels.get(0).getName().toLowerCase().replace(" ", "_");
-            }
-        } else {
-            // For LOWER_BETTER, check from lowest to highest threshold (reversed)
-            boolean found = false;
-            for (int i = thresholdScores.size() - 1; i >= 0; i--) {
-                ThresholdScore ts = thresholdScores.get(i);
-                if (actual <= ts.threshold) {
-                    int scoreIdx = ts.scoreLevelIndex;
-
-                    // If at the best (lowest) level, assign that score directly
-                    if (i == thresholdScores.size() - 1) {
-                        score = scoreLevels.get(scoreIdx).getScoreValue();
-                        level = scoreLevels.get(scoreIdx).getName().toLowerCase().replace(" ", "_");
-                    } else {
-                        // Interpolate between current and next threshold
-                        ThresholdScore nextTs = thresholdScores.get(i + 1);
-                        double ratio = 1 - (actual - nextTs.threshold) / Math.max(ts.threshold - nextTs.threshold, 0.001);
-                        double startScore = scoreLevels.get(scoreIdx).getScoreValue();
-                        double endScore = scoreLevels.get(nextTs.scoreLevelIndex).getScoreValue();
-                        score = startScore + ratio * (endScore - startScore);
-                        level = scoreLevels.get(scoreIdx).getName().toLowerCase().replace(" ", "_");
-                    }
-                    found = true;
-                    break;
-                }
-            }
-
-            if (!found) {
-                // Above all thresholds (worst for LOWER_BETTER)
-                score = scoreLevels.get(0).getScoreValue();
-                level = scoreLevels.get(0).getName().toLowerCase().replace(" ", "_");
-            }
-        }
-
-        double minScore = scoreLevels.get(0).getScoreValue();
-        double maxScore = scoreLevels.get(scoreLevels.size() - 1).getScoreValue();
-        score = Math.min(Math.max(score, minScore), maxScore);
-        score = Math.round(score * 100.0) / 100.0;
-
-        return ScoreResult.builder()
-                .score(score)
-                .level(level)
-                .color(getColorForLevel(level))
-                .percentage(scoreToPercentage(score))
-                .build();
-    }
-
-    // Helper class for threshold-score mapping
-    private static class ThresholdScore {
-        double threshold;
-        int scoreLevelIndex;
-
-        ThresholdScore(double threshold, int scoreLevelIndex) {
-            this.threshold = threshold;
-            this.scoreLevelIndex = scoreLevelIndex;
+    /**
+     * Thresholds of a key result prepared for the current score level snapshot.
+     * Prepared once per key result definition and reused until its thresholds or the levels change,
+     * or until it is evicted by the size bound.
+     */
+    private QuantitativeScoringKernel.PreparedThresholds getPreparedThresholds(KeyResult kr, ScoreLevelSnapshot scoreLevels) {
+        long version = scoreLevels.getVersion();
+        if (preparedLevelVersion != version) {
+            // Score levels changed: every prepared mapping is stale
+            preparedThresholds.invalidateAll();
+            preparedLevelVersion = version;
         }
-    }
 
-    private ScoreResult calculateWithDefaultLevels(
-            double actual, KeyResult.MetricType type,
-            Double below, Double meets, Double good, Double veryGood, Double exceptional) {
-
-        double score;
-        String level;
-
-        if (type == KeyResult.MetricType.HIGHER_BETTER) {
-            if (actual >= exceptional) {
-                score = 5.00;
-                level = "exceptional";
-            } else if (actual >= veryGood) {
-                double ratio = (actual - veryGood) / Math.max(exceptional - veryGood, 1);
-                score = 4.75 + ratio * 0.25;
-                level = "very_good";
-            } else if (actual >= good) {
-                double ratio = (actual - good) / Math.max(veryGood - good, 1);
-                score = 4.50 + ratio * 0.25;
-                level = "good";
-            } else if (actual >= meets) {
-                double ratio = (actual - meets) / Math.max(good - meets, 1);
-                score = 4.25 + ratio * 0.25;
-                level = "meets";
-            } else if (actual >= below) {
-                double ratio = (actual - below) / Math.max(meets - below, 1);
-                score = 3.00 + ratio * 1.25;
-                level = "below";
-            } else {
-                score = 3.00;
-                level = "below";
-            }
-        } else {
-            if (actual <= exceptional) {
-                score = 5.00;
-                level = "exceptional";
-            } else if (actual <= veryGood) {
-                double ratio = 1 - (actual - exceptional) / Math.max(veryGood - exceptional, 1);
-                score = 4.75 + ratio * 0.25;
-                level = "very_good";
-            } else if (actual <= good) {
-                double ratio = 1 - (actual - veryGood) / Math.max(good - veryGood, 1);
-                score = 4.50 + ratio * 0.25;
-                level = "good";
-            } else if (actual <= meets) {
-                double ratio = 1 - (actual - good) / Math.max(meets - good, 1);
-                score = 4.25 + ratio * 0.25;
-                level = "meets";
-            } else if (actual <= below) {
-                double ratio = 1 - (actual - meets) / Math.max(below - meets, 1);
-                score = 3.00 + ratio * 1.25;
-                level = "below";
-            } else {
-                score = 3.00;
-                level = "below";
+        UUID id = kr.getId();
+        QuantitativeScoringKernel.PreparedThresholds thresholds = id != null ? preparedThresholds.getIfPresent(id) : null;
+        if (thresholds == null || !thresholds.matches(kr, version)) {
+            thresholds = QuantitativeScoringKernel.prepare(
+                    kr.getMetricType(),
+                    kr.getThresholdBelow(),
+                    kr.getThresholdMeets(),
+                    kr.getThresholdGood(),
+                    kr.getThresholdVeryGood(),
+                    kr.getThresholdExceptional(),
+                    scoreLevels);
+            if (id != null) {
+                preparedThresholds.put(id, thresholds);
             }
         }
-
-        score = Math.min(Math.max(score, 3.0), 5.0);
-        score = Math.round(score * 100.0) / 100.0;
-
-        return ScoreResult.builder()
-                .score(score)
-                .level(level)
-                .color(getColorForLevel(level))
-                .percentage(scoreToPercentage(score))
-                .build();
+        return thresholds;
     }
 
     /**
      * Calculate weighted score for an Objective (average of KR scores)
      */
     public ScoreResult calculateObjectiveScore(List<KeyResult> keyResults) {
+        return calculateObjectiveScore(keyResults, this::calculateKeyResultScore);
+    }
+
+    private ScoreResult calculateObjectiveScore(List<KeyResult> keyResults, Function<KeyResult, ScoreResult> keyResultScorer) {
         if (keyResults == null || keyResults.isEmpty()) {
             return emptyScore();
         }
 
         double totalScore = 0;
         for (KeyResult kr : keyResults) {
-            ScoreResult krScore = calculateKeyResultScore(kr);
+            ScoreResult krScore = keyResultScorer.apply(kr);
             totalScore += krScore.getScore();
         }
 
@@ -343,6 +152,10 @@ public class ScoreCalculationService {
      * Calculate weighted score for a Department
      */
     public ScoreResult calculateDepartmentScore(List<Objective> objectives) {
+        return calculateDepartmentScore(objectives, obj -> calculateObjectiveScore(obj.getKeyResults()));
+    }
+
+    private ScoreResult calculateDepartmentScore(List<Objective> objectives, Function<Objective, ScoreResult> objectiveScorer) {
         if (objectives == null || objectives.isEmpty()) {
             return emptyScore();
         }
@@ -366,7 +179,7 @@ public class ScoreCalculationService {
             }
 
             double weight = obj.getWeight() != null ? obj.getWeight() : 100.0 / objectivesWithKRs;
-            ScoreResult objScore = calculateObjectiveScore(obj.getKeyResults());
+            ScoreResult objScore = objectiveScorer.apply(obj);
             weightedSum += objScore.getScore() * weight;
             totalWeight += weight;
         }
@@ -375,70 +188,164 @@ public class ScoreCalculationService {
         return createScoreResult(avgScore);
     }
 
-    private ScoreResult createScoreResult(double score) {
-        String level = getLevelForScore(score);
-        return ScoreResult.builder()
-                .score(Math.round(score * 100.0) / 100.0)
-                .level(level)
-                .color(getColorForLevel(level))
-                .percentage(scoreToPercentage(score))
-                .build();
+    /**
+     * Score a whole department tree in one pass.
+     * Each key result, objective and the department itself is scored exactly once,
+     * and evaluations are combined with the resulting OKR score.
+     */
+    public ScoreTree calculateDepartmentScoreTree(Department dept) {
+        ScoreTree tree = calculateOkrScoreTree(dept);
+        tree.setScoreWithEvaluations(calculateDepartmentScoreWithEvaluations(dept.getId(), tree.getDepartmentScore()));
+        return tree;
     }
 
-    private String getLevelForScore(double score) {
-        List<ScoreLevel> levels = getScoreLevels();
+    /**
+     * Score several department trees in one pass.
+     * Submitted evaluations of all departments are loaded with a single query.
+     *
+     * @return score trees by department id
+     */
+    public Map<UUID, ScoreTree> calculateDepartmentScoreTrees(Collection<Department> departments) {
+        Map<UUID, ScoreTree> trees = new LinkedHashMap<>();
+        if (departments.isEmpty()) {
+            return trees;
+        }
 
-        if (levels.isEmpty()) {
-            // Fallback to default logic
-            if (score >= 5.00) return "exceptional";
-            if (score >= 4.75) return "very_good";
-            if (score >= 4.50) return "good";
-            if (score >= 4.25) return "meets";
-            return "below";
+        Map<UUID, Map<EvaluatorType, Evaluation>> evaluations = getEvaluationsForTargets("DEPARTMENT",
+                departments.stream().map(Department::getId).toList());
+
+        for (Department dept : departments) {
+            trees.put(dept.getId(), calculateDepartmentScoreTree(dept, getEvaluationsForTarget(evaluations, dept.getId())));
         }
+        return trees;
+    }
 
-        // Find the appropriate level based on score value
-        for (int i = levels.size() - 1; i >= 0; i--) {
-            if (score >= levels.get(i).getScoreValue()) {
-                return levels.get(i).getName().toLowerCase().replace(" ", "_");
-            }
+    /**
+     * Key result, objective and automatic department scores of several departments, without evaluations.
+     * Nothing is loaded; the combined score of the returned trees is null.
+     *
+     * @return score trees by department id
+     */
+    public Map<UUID, ScoreTree> calculateOkrScoreTrees(Collection<Department> departments) {
+        Map<UUID, ScoreTree> trees = new LinkedHashMap<>();
+        for (Department dept : departments) {
+            trees.put(dept.getId(), calculateOkrScoreTree(dept));
         }
+        return trees;
+    }
 
-        return levels.get(0).getName().toLowerCase().replace(" ", "_");
+    /**
+     * Score a department tree against evaluations that were loaded beforehand.
+     * Does not touch the database, so it can run on detached data from any thread.
+     */
+    public ScoreTree calculateDepartmentScoreTree(Department dept, Map<EvaluatorType, Evaluation> evaluations) {
+        ScoreTree tree = calculateOkrScoreTree(dept);
+        tree.setScoreWithEvaluations(combineWithEvaluations(evaluations, tree.getDepartmentScore()));
+        return tree;
     }
 
-    private String getColorForLevel(String level) {
-        List<ScoreLevel> levels = getScoreLevels();
+    /**
+     * Average of several scores, mapped to level, color and percentage
+     */
+    public ScoreResult calculateAverageScore(Collection<Double> scores) {
+        if (scores.isEmpty()) {
+            return emptyScore();
+        }
 
-        if (levels.isEmpty()) {
-            return DEFAULT_LEVELS.getOrDefault(level, DEFAULT_LEVELS.get("below")).color();
+        double total = 0;
+        for (Double score : scores) {
+            total += score;
         }
+        return createScoreResult(total / scores.size());
+    }
 
-        String normalizedLevel = level.replace("_", " ");
-        for (ScoreLevel scoreLevel : levels) {
-            if (scoreLevel.getName().equalsIgnoreCase(normalizedLevel)) {
-                return scoreLevel.getColor();
-            }
+    // Key result, objective and automatic department scores, without evaluations
+    private ScoreTree calculateOkrScoreTree(Department dept) {
+        ScoreTree tree = ScoreTree.builder()
+                .departmentId(dept.getId())
+                .build();
+
+        for (Objective obj : dept.getObjectives()) {
+            scoreObjectiveInto(tree, obj);
         }
 
-        return levels.get(0).getColor();
+        tree.setDepartmentScore(calculateDepartmentScore(dept.getObjectives(),
+                obj -> tree.getObjectiveScore(obj.getId())));
+        return tree;
     }
 
-    private double scoreToPercentage(double score) {
-        List<ScoreLevel> levels = getScoreLevels();
+    /**
+     * Score a single objective and its key results in one pass.
+     */
+    public ScoreTree calculateObjectiveScoreTree(Objective obj) {
+        ScoreTree tree = new ScoreTree();
+        scoreObjectiveInto(tree, obj);
+        return tree;
+    }
 
-        double minScore = 3.0;
-        double maxScore = 5.0;
+    /**
+     * Rescore a department tree after one key result changed.
+     * Only that key result, its objective and the department are recomputed; every other
+     * score is reused from {@code previous}, which is left untouched.
+     */
+    public ScoreTree rescoreKeyResult(ScoreTree previous, KeyResult kr) {
+        Objective changedObjective = kr.getObjective();
+        Department dept = changedObjective.getDepartment();
+
+        ScoreTree tree = ScoreTree.builder()
+                .departmentId(previous.getDepartmentId())
+                .keyResultScores(new HashMap<>(previous.getKeyResultScores()))
+                .objectiveScores(new HashMap<>(previous.getObjectiveScores()))
+                .build();
 
-        if (!levels.isEmpty()) {
-            minScore = levels.get(0).getScoreValue();
-            maxScore = levels.get(levels.size() - 1).getScoreValue();
-        }
+        tree.getKeyResultScores().put(kr.getId(), calculateKeyResultScore(kr));
+        ScoreResult objScore = calculateObjectiveScore(changedObjective.getKeyResults(), keyResult -> {
+            ScoreResult krScore = tree.getKeyResultScore(keyResult.getId());
+            if (krScore == null) {
+                krScore = calculateKeyResultScore(keyResult);
+                tree.getKeyResultScores().put(keyResult.getId(), krScore);
+            }
+            return krScore;
+        });
+        tree.getObjectiveScores().put(changedObjective.getId(), objScore);
+
+        ScoreResult departmentScore = calculateDepartmentScore(dept.getObjectives(), obj -> {
+            ScoreResult score = tree.getObjectiveScore(obj.getId());
+            if (score == null) {
+                scoreObjectiveInto(tree, obj);
+                score = tree.getObjectiveScore(obj.getId());
+            }
+            return score;
+        });
+        tree.setDepartmentScore(departmentScore);
+        tree.setScoreWithEvaluations(previous.getScoreWithEvaluations() != null
+                ? withAutomaticScore(previous.getScoreWithEvaluations(), departmentScore)
+                : calculateDepartmentScoreWithEvaluations(dept.getId(), departmentScore));
+        return tree;
+    }
 
-        double range = maxScore - minScore;
-        if (range == 0) return 0.0;
+    private void scoreObjectiveInto(ScoreTree tree, Objective obj) {
+        ScoreResult objScore = calculateObjectiveScore(obj.getKeyResults(), kr -> {
+            ScoreResult krScore = calculateKeyResultScore(kr);
+            tree.getKeyResultScores().put(kr.getId(), krScore);
+            return krScore;
+        });
+        tree.getObjectiveScores().put(obj.getId(), objScore);
+    }
 
-        return Math.round(((score - minScore) / range) * 1000.0) / 10.0;
+    private ScoreResult createScoreResult(double score) {
+        ScoreLevelSnapshot levels = scoreLevelRegistry.current();
+        int level = levels.lookup(score);
+        return new ScoreResult(Math.round(score * 100.0) / 100.0,
+                levels.getLookupSlug(level), levels.getLookupColor(level), levels.toPercentage(score));
+    }
+
+    private String getColorForLevel(String level) {
+        return scoreLevelRegistry.current().colorForLevel(level);
+    }
+
+    private double scoreToPercentage(double score) {
+        return scoreLevelRegistry.current().toPercentage(score);
     }
 
     private ScoreResult emptyScore() {
@@ -458,7 +365,6 @@ public class ScoreCalculationService {
         }
     }
 
-    record LevelInfo(double min, double max, String color) {}
     record QualitativeGrade(double score, String level) {}
 
     // ============= NEW METHODS FOR MULTI-SOURCE EVALUATION =============
@@ -467,22 +373,24 @@ public class ScoreCalculationService {
      * Calculate department score with multi-source evaluations
      * Combines automatic OKR score (60%) with Director (20%) and HR (20%) evaluations
      */
-    public DepartmentScoreResult calculateDepartmentScoreWithEvaluations(String departmentId, List<Objective> objectives) {
+    public DepartmentScoreResult calculateDepartmentScoreWithEvaluations(UUID departmentId, List<Objective> objectives) {
         // 1. Calculate automatic OKR score (existing logic) - 60% weight
-        ScoreResult autoScoreResult = calculateDepartmentScore(objectives);
-        Double autoScore = autoScoreResult.getScore();
+        return calculateDepartmentScoreWithEvaluations(departmentId, calculateDepartmentScore(objectives));
+    }
 
-        // 2. Get evaluations for this department (handle UUID conversion safely)
-        Map<EvaluatorType, Evaluation> evals;
-        try {
-            UUID targetId = UUID.fromString(departmentId);
-            evals = getEvaluationsForTarget("DEPARTMENT", targetId);
-        } catch (IllegalArgumentException e) {
-            // If departmentId is not a valid UUID, return empty evaluations
-            System.err.println("Warning: Invalid department ID format for evaluation lookup: " + departmentId);
-            evals = Map.of();
-        }
+    private DepartmentScoreResult calculateDepartmentScoreWithEvaluations(UUID departmentId, ScoreResult autoScoreResult) {
+        // 2. Get evaluations for this department
+        Map<EvaluatorType, Evaluation> evals = departmentId != null
+                ? getEvaluationsForTarget("DEPARTMENT", departmentId)
+                : Map.of();
+
+        return combineWithEvaluations(evals, autoScoreResult);
+    }
 
+    /**
+     * Combine an automatic OKR score with a department's submitted evaluations
+     */
+    private DepartmentScoreResult combineWithEvaluations(Map<EvaluatorType, Evaluation> evals, ScoreResult autoScoreResult) {
         // 3. Extract Director evaluation
         Evaluation directorEval = evals.get(EvaluatorType.DIRECTOR);
         Double directorScore = directorEval != null ? directorEval.getNumericRating() : null;
@@ -511,6 +419,36 @@ public class ScoreCalculationService {
             businessBlockComment = businessBlockEval.getComment();
         }
 
+        DepartmentScoreResult.DepartmentScoreResultBuilder result = DepartmentScoreResult.builder()
+                .directorEvaluation(directorScore)
+                .directorStars(directorStars)
+                .directorComment(directorComment)
+                .hrEvaluationLetter(hrLetter)
+                .hrEvaluationNumeric(hrScore)
+                .hrComment(hrComment)
+                .businessBlockEvaluation(businessBlockScore)
+                .businessBlockStars(businessBlockStars)
+                .businessBlockComment(businessBlockComment)
+                .hasDirectorEvaluation(directorScore != null)
+                .hasHrEvaluation(hrScore != null)
+                .hasBusinessBlockEvaluation(businessBlockScore != null);
+
+        return combineWithAutomaticScore(result, autoScoreResult, directorScore, hrScore);
+    }
+
+    /**
+     * Same evaluations as {@code previous}, combined with a new automatic OKR score
+     */
+    private DepartmentScoreResult withAutomaticScore(DepartmentScoreResult previous, ScoreResult autoScoreResult) {
+        return combineWithAutomaticScore(previous.toBuilder(), autoScoreResult,
+                previous.getDirectorEvaluation(), previous.getHrEvaluationNumeric());
+    }
+
+    private DepartmentScoreResult combineWithAutomaticScore(DepartmentScoreResult.DepartmentScoreResultBuilder result,
+                                                            ScoreResult autoScoreResult,
+                                                            Double directorScore, Double hrScore) {
+        Double autoScore = autoScoreResult.getScore();
+
         // 6. Calculate weighted final score
         Double finalScore = null;
         if (autoScore != null && directorScore != null && hrScore != null) {
@@ -519,28 +457,25 @@ public class ScoreCalculationService {
         }
 
         // 7. Map final score to level and color
-        String scoreLevel = finalScore != null ? getLevelForScore(finalScore) : autoScoreResult.getLevel();
-        String color = getColorForLevel(scoreLevel);
+        String scoreLevel;
+        String color;
+        if (finalScore != null) {
+            ScoreLevelSnapshot levels = scoreLevelRegistry.current();
+            int level = levels.lookup(finalScore);
+            scoreLevel = levels.getLookupSlug(level);
+            color = levels.getLookupColor(level);
+        } else {
+            scoreLevel = autoScoreResult.getLevel();
+            color = getColorForLevel(scoreLevel);
+        }
 
-        return DepartmentScoreResult.builder()
+        return result
                 .automaticOkrScore(autoScore)
                 .automaticOkrPercentage(autoScoreResult.getPercentage())
-                .directorEvaluation(directorScore)
-                .directorStars(directorStars)
-                .directorComment(directorComment)
-                .hrEvaluationLetter(hrLetter)
-                .hrEvaluationNumeric(hrScore)
-                .hrComment(hrComment)
-                .businessBlockEvaluation(businessBlockScore)
-                .businessBlockStars(businessBlockStars)
-                .businessBlockComment(businessBlockComment)
                 .finalCombinedScore(finalScore)
                 .finalPercentage(finalScore != null ? scoreToPercentage(finalScore) : null)
                 .scoreLevel(scoreLevel)
                 .color(color)
-                .hasDirectorEvaluation(directorScore != null)
-                .hasHrEvaluation(hrScore != null)
-                .hasBusinessBlockEvaluation(businessBlockScore != null)
                 .build();
     }
 
@@ -548,14 +483,16 @@ public class ScoreCalculationService {
      * Get submitted evaluations for a target, grouped by evaluator type
      */
     private Map<EvaluatorType, Evaluation> getEvaluationsForTarget(String targetType, UUID targetId) {
-        log.info("Fetching evaluations for targetType={}, targetId={}", targetType, targetId);
+        log.debug("Fetching evaluations for targetType={}, targetId={}", targetType, targetId);
         List<Evaluation> evals = evaluationRepository.findByTargetTypeAndTargetIdAndStatus(
                 targetType, targetId, EvaluationStatus.SUBMITTED
         );
-        log.info("Found {} submitted evaluations for targetId={}", evals.size(), targetId);
-        for (Evaluation e : evals) {
-            log.info("  - Evaluation: id={}, evaluatorType={}, targetId={}, status={}",
-                    e.getId(), e.getEvaluatorType(), e.getTargetId(), e.getStatus());
+        log.debug("Found {} submitted evaluations for targetId={}", evals.size(), targetId);
+        if (log.isDebugEnabled()) {
+            for (Evaluation e : evals) {
+                log.debug("  - Evaluation: id={}, evaluatorType={}, targetId={}, status={}",
+                        e.getId(), e.getEvaluatorType(), e.getTargetId(), e.getStatus());
+            }
         }
         return evals.stream()
                 .collect(Collectors.toMap(
@@ -565,6 +502,38 @@ public class ScoreCalculationService {
                 ));
     }
 
+    /**
+     * Get submitted evaluations for several targets with a single query,
+     * grouped by target id and evaluator type.
+     */
+    public Map<UUID, Map<EvaluatorType, Evaluation>> getEvaluationsForTargets(String targetType, Collection<UUID> targetIds) {
+        Set<UUID> ids = new HashSet<>(targetIds);
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Evaluation> evals = evaluationRepository.findByTargetTypeAndTargetIdInAndStatus(
+                targetType, ids, EvaluationStatus.SUBMITTED
+        );
+        log.debug("Found {} submitted evaluations for {} {} targets", evals.size(), ids.size(), targetType);
+
+        Map<UUID, Map<EvaluatorType, Evaluation>> byTarget = new HashMap<>();
+        for (Evaluation e : evals) {
+            byTarget.computeIfAbsent(e.getTargetId(), id -> new EnumMap<>(EvaluatorType.class))
+                    .putIfAbsent(e.getEvaluatorType(), e); // Keep first if duplicates (shouldn't happen due to validation)
+        }
+        return byTarget;
+    }
+
+    /**
+     * Evaluations of one target from the result of {@link #getEvaluationsForTargets}
+     */
+    public Map<EvaluatorType, Evaluation> getEvaluationsForTarget(Map<UUID, Map<EvaluatorType, Evaluation>> evaluations,
+                                                                  UUID targetId) {
+        return targetId != null ? evaluations.getOrDefault(targetId, Map.of()) : Map.of();
+    }
+
     /**
      * Convert HR letter grade to numeric score
      * D = 5.0 (Outstanding), C = 4.75 (Exceeds), B = 4.5 (Meets), A = 4.25 (Needs Improvement)
@@ -0,0 +1,104 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.event.ScoreLevelsChangedEvent;
+import com.example.objectkeyresulttracker.repository.ScoreLevelRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Process-wide holder of the current {@link ScoreLevelSnapshot}.
+ * The snapshot is loaded once and swapped atomically after score level changes commit,
+ * so every thread (requests, Excel export, background work) sees the same configuration.
+ * From just before such a change commits until the reload completes the snapshot is known
+ * to be stale, see {@link #isRefreshPending()}.
+ */
+@Slf4j
+@Component
+public class ScoreLevelRegistry {
+
+    private final ScoreLevelRepository scoreLevelRepository;
+    private final AtomicReference<ScoreLevelSnapshot> current = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicInteger pendingRefreshes = new AtomicInteger();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public ScoreLevelRegistry(ScoreLevelRepository scoreLevelRepository) {
+        this.scoreLevelRepository = scoreLevelRepository;
+    }
+
+    /**
+     * Get the current snapshot, loading it on first use
+     */
+    public ScoreLevelSnapshot current() {
+        ScoreLevelSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            snapshot = load();
+            if (!current.compareAndSet(null, snapshot)) {
+                snapshot = current.get();
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Whether score level changes are committing or committed but not reloaded yet.
+     * Anything that persists results derived from the snapshot should wait until this is false.
+     */
+    public boolean isRefreshPending() {
+        return pendingRefreshes.get() > 0;
+    }
+
+    /**
+     * Flag the snapshot stale before the change becomes visible; the flag is cleared once the
+     * transaction completes, after the {@code AFTER_COMMIT} reload below has run
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onScoreLevelsCommitting(ScoreLevelsChangedEvent event) {
+        pendingRefreshes.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                pendingRefreshes.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Reload the snapshot once score level changes have been committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onScoreLevelsChanged(ScoreLevelsChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * Replace the current snapshot with a freshly loaded one
+     */
+    public void refresh() {
+        // A lock rather than synchronized: the load runs JDBC, which would pin a virtual thread to its carrier
+        refreshLock.lock();
+        try {
+            ScoreLevelSnapshot snapshot = load();
+            current.set(snapshot);
+            log.info("Score level snapshot refreshed: version={}, levels={}", snapshot.getVersion(), snapshot.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private ScoreLevelSnapshot load() {
+        return ScoreLevelSnapshot.of(versions.incrementAndGet(), scoreLevelRepository.findAllByOrderByDisplayOrderAsc());
+    }
+}
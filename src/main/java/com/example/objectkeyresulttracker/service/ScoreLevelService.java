@@ -2,8 +2,10 @@ package com.example.objectkeyresulttracker.service;
 
 import com.example.objectkeyresulttracker.dto.ScoreLevelDTO;
 import com.example.objectkeyresulttracker.entity.ScoreLevel;
+import com.example.objectkeyresulttracker.event.ScoreLevelsChangedEvent;
 import com.example.objectkeyresulttracker.repository.ScoreLevelRepository;
 import jakarta.annotation.PostConstruct;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,9 +16,15 @@ import java.util.stream.Collectors;
 public class ScoreLevelService {
 
     private final ScoreLevelRepository scoreLevelRepository;
+    private final ScoreLevelRegistry scoreLevelRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ScoreLevelService(ScoreLevelRepository scoreLevelRepository) {
+    public ScoreLevelService(ScoreLevelRepository scoreLevelRepository,
+                             ScoreLevelRegistry scoreLevelRegistry,
+                             ApplicationEventPublisher eventPublisher) {
         this.scoreLevelRepository = scoreLevelRepository;
+        this.scoreLevelRegistry = scoreLevelRegistry;
+        this.eventPublisher = eventPublisher;
     }
 
     @PostConstruct
@@ -65,11 +73,18 @@ public class ScoreLevelService {
     }
 
     public List<ScoreLevelDTO> getAllScoreLevels() {
-        return scoreLevelRepository.findAllByOrderByDisplayOrderAsc().stream()
+        return scoreLevelRegistry.current().getLevels().stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Entity tag of the score levels; changes whenever the snapshot is reloaded
+     */
+    public String getScoreLevelsETag() {
+        return ETags.of(scoreLevelRegistry.current().getVersion());
+    }
+
     @Transactional
     public List<ScoreLevelDTO> updateScoreLevels(List<ScoreLevelDTO> levelDTOs) {
         // Delete all existing levels
@@ -87,6 +102,7 @@ public class ScoreLevelService {
                 .collect(Collectors.toList());
 
         List<ScoreLevel> savedLevels = scoreLevelRepository.saveAll(newLevels);
+        eventPublisher.publishEvent(new ScoreLevelsChangedEvent());
 
         return savedLevels.stream()
                 .map(this::toDTO)
@@ -97,6 +113,7 @@ public class ScoreLevelService {
     public void resetToDefaults() {
         scoreLevelRepository.deleteAll();
         initializeDefaultLevels();
+        eventPublisher.publishEvent(new ScoreLevelsChangedEvent());
     }
 
     private ScoreLevelDTO toDTO(ScoreLevel entity) {
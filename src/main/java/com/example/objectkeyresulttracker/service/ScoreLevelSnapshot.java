@@ -0,0 +1,247 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.entity.ScoreLevel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, versioned view of the score level configuration.
+ * Values, level slugs and colors are precomputed once per configuration
+ * so scoring never touches the database or does string work per call.
+ * Levels keep their display order, which the UI keeps ascending by score value.
+ *
+ * Score-to-level lookups use a table of lower bounds with parallel slug and color arrays,
+ * searched with a binary search when the bounds ascend (the normal case).
+ */
+public final class ScoreLevelSnapshot {
+
+    // Default lookup table (used if DB is empty)
+    private static final double[] DEFAULT_BOUNDS = {3.00, 4.25, 4.50, 4.75, 5.00};
+    private static final String[] DEFAULT_SLUGS = {"below", "meets", "good", "very_good", "exceptional"};
+
+    // Default fallback colors (used if DB is empty)
+    private static final Map<String, String> DEFAULT_COLORS = Map.of(
+            "below", "#d9534f",
+            "meets", "#f0ad4e",
+            "good", "#5cb85c",
+            "very_good", "#28a745",
+            "exceptional", "#1e7b34"
+    );
+
+    private final long version;
+    private final List<ScoreLevel> levels;
+    private final double[] values;
+    private final String[] slugs;
+    private final String[] colors;
+    private final Map<String, String> colorBySlug;
+
+    // Score-to-level lookup table: lower bound of each level with its slug and color
+    private final double[] bounds;
+    private final String[] boundSlugs;
+    private final String[] boundColors;
+    private final boolean ascending;
+
+    private ScoreLevelSnapshot(long version, List<ScoreLevel> source) {
+        this.version = version;
+
+        int size = source.size();
+        List<ScoreLevel> copies = new ArrayList<>(size);
+        this.values = new double[size];
+        this.slugs = new String[size];
+        this.colors = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            ScoreLevel level = source.get(i);
+            copies.add(ScoreLevel.builder()
+                    .id(level.getId())
+                    .name(level.getName())
+                    .scoreValue(level.getScoreValue())
+                    .color(level.getColor())
+                    .displayOrder(level.getDisplayOrder())
+                    .isDefault(level.getIsDefault())
+                    .build());
+            values[i] = level.getScoreValue();
+            slugs[i] = toSlug(level.getName());
+        }
+        this.levels = Collections.unmodifiableList(copies);
+
+        Map<String, String> resolved = new HashMap<>();
+        for (String slug : DEFAULT_COLORS.keySet()) {
+            resolved.put(slug, resolveColor(slug));
+        }
+        for (int i = 0; i < size; i++) {
+            colors[i] = resolveColor(slugs[i]);
+            resolved.put(slugs[i], colors[i]);
+        }
+        this.colorBySlug = Map.copyOf(resolved);
+
+        if (size == 0) {
+            this.bounds = DEFAULT_BOUNDS;
+            this.boundSlugs = DEFAULT_SLUGS;
+            this.boundColors = new String[DEFAULT_SLUGS.length];
+            for (int i = 0; i < DEFAULT_SLUGS.length; i++) {
+                boundColors[i] = colorBySlug.get(DEFAULT_SLUGS[i]);
+            }
+        } else {
+            this.bounds = values;
+            this.boundSlugs = slugs;
+            this.boundColors = colors;
+        }
+        this.ascending = isAscending(bounds);
+    }
+
+    /**
+     * Build a snapshot from levels ordered by display order.
+     */
+    public static ScoreLevelSnapshot of(long version, List<ScoreLevel> levelsByDisplayOrder) {
+        return new ScoreLevelSnapshot(version, levelsByDisplayOrder);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Detached copies of the configured levels in display order.
+     */
+    public List<ScoreLevel> getLevels() {
+        return levels;
+    }
+
+    public double getValue(int index) {
+        return values[index];
+    }
+
+    public String getSlug(int index) {
+        return slugs[index];
+    }
+
+    public String getColor(int index) {
+        return colors[index];
+    }
+
+    public double getMinScore() {
+        return isEmpty() ? 3.0 : values[0];
+    }
+
+    public double getMaxScore() {
+        return isEmpty() ? 5.0 : values[values.length - 1];
+    }
+
+    /**
+     * Level slug (e.g. "very_good") for a score
+     */
+    public String levelForScore(double score) {
+        return boundSlugs[lookup(score)];
+    }
+
+    /**
+     * Color of the level a score falls into; same as {@code colorForLevel(levelForScore(score))}
+     */
+    public String colorForScore(double score) {
+        return boundColors[lookup(score)];
+    }
+
+    /**
+     * Index into the lookup table of the level a score falls into:
+     * the last level whose value the score reaches, or the first level if it reaches none.
+     * Use with {@link #getLookupSlug(int)} and {@link #getLookupColor(int)}.
+     */
+    public int lookup(double score) {
+        int index = ascending ? lastReachedAscending(score) : lastReachedScan(score);
+        return Math.max(index, 0);
+    }
+
+    public String getLookupSlug(int index) {
+        return boundSlugs[index];
+    }
+
+    public String getLookupColor(int index) {
+        return boundColors[index];
+    }
+
+    // Binary search for the last bound <= score, or -1
+    private int lastReachedAscending(double score) {
+        int low = 0;
+        int high = bounds.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (bounds[mid] <= score) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    // Levels configured out of order: check from the last level down, like the original lookup
+    private int lastReachedScan(double score) {
+        for (int i = bounds.length - 1; i >= 0; i--) {
+            if (score >= bounds[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isAscending(double[] bounds) {
+        for (int i = 1; i < bounds.length; i++) {
+            if (!(bounds[i - 1] <= bounds[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Color for a level slug
+     */
+    public String colorForLevel(String level) {
+        String color = colorBySlug.get(level);
+        return color != null ? color : resolveColor(level);
+    }
+
+    /**
+     * Score as percentage (0-100) of the configured score range
+     */
+    public double toPercentage(double score) {
+        double minScore = getMinScore();
+        double maxScore = getMaxScore();
+
+        double range = maxScore - minScore;
+        if (range == 0) return 0.0;
+
+        return Math.round(((score - minScore) / range) * 1000.0) / 10.0;
+    }
+
+    private String resolveColor(String level) {
+        if (isEmpty()) {
+            return DEFAULT_COLORS.getOrDefault(level, DEFAULT_COLORS.get("below"));
+        }
+
+        String normalizedLevel = level.replace("_", " ");
+        for (ScoreLevel scoreLevel : levels) {
+            if (scoreLevel.getName().equalsIgnoreCase(normalizedLevel)) {
+                return scoreLevel.getColor();
+            }
+        }
+        return levels.get(0).getColor();
+    }
+
+    private static String toSlug(String name) {
+        return name.toLowerCase().replace(" ", "_");
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.dto.DepartmentScoreResult;
+import com.example.objectkeyresulttracker.dto.ScoreResult;
+import com.example.objectkeyresulttracker.dto.ScoreStreamEvent;
+import com.example.objectkeyresulttracker.dto.ScoreTree;
+import com.example.objectkeyresulttracker.event.DepartmentChangedEvent;
+import com.example.objectkeyresulttracker.event.DepartmentScoreRecomputedEvent;
+import com.example.objectkeyresulttracker.event.EvaluationChangedEvent;
+import com.example.objectkeyresulttracker.event.KeyResultActualValueChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Server-Sent Events feed of score changes.
+ *
+ * Committed changes are turned into compact events and queued per subscriber, so the writing
+ * request never waits for subscribers and every subscriber sees events in commit order.
+ * Each subscriber is written to by at most one sender thread at a time: a client that stops
+ * reading only stalls its own queue, and is dropped once that bounded queue is full.
+ * A subscriber whose connection fails is dropped as well.
+ */
+@Slf4j
+@Service
+public class ScoreStreamService {
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService sender;
+    private final int queueSize;
+
+    @Value("${okr.score-stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Autowired
+    public ScoreStreamService(@Value("${okr.score-stream.queue-size:256}") int queueSize) {
+        this(newSenderPool(), queueSize);
+    }
+
+    ScoreStreamService(ExecutorService sender, int queueSize) {
+        this.sender = sender;
+        this.queueSize = queueSize;
+    }
+
+    // Grows with the subscribers currently being written to; a stalled write holds only its own thread
+    private static ExecutorService newSenderPool() {
+        AtomicInteger threads = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "score-stream-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Open a new subscription; it ends when the client disconnects or the timeout passes
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        register(emitter);
+        return emitter;
+    }
+
+    void register(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // ==================== EVENTS ====================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onKeyResultActualValueChanged(KeyResultActualValueChangedEvent event) {
+        ScoreTree scores = event.scores();
+        broadcast("key-result", ScoreStreamEvent.builder()
+                .departmentId(event.departmentId())
+                .objectiveId(event.objectiveId())
+                .keyResultId(event.keyResultId())
+                .keyResultScore(scores.getKeyResultScore(event.keyResultId()))
+                .objectiveScore(scores.getObjectiveScore(event.objectiveId()))
+                .departmentScore(scores.getDepartmentScore())
+                .finalScore(finalScore(scores.getScoreWithEvaluations()))
+                .build());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDepartmentScoreRecomputed(DepartmentScoreRecomputedEvent event) {
+        broadcast("department-score", ScoreStreamEvent.builder()
+                .departmentId(event.departmentId())
+                .finalScore(finalScore(event.scores()))
+                .build());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEvaluationChanged(EvaluationChangedEvent event) {
+        broadcast("evaluation", ScoreStreamEvent.builder()
+                .targetType(event.targetType())
+                .targetId(event.targetId())
+                .build());
+    }
+
+    /**
+     * Structure changes carry no scores; clients reload the department (all departments when the id is absent)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        broadcast("department", ScoreStreamEvent.builder()
+                .departmentId(event.departmentId())
+                .build());
+    }
+
+    /**
+     * Keep idle connections from being closed by proxies
+     */
+    @Scheduled(fixedDelayString = "${okr.score-stream.heartbeat-ms:30000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.enqueue(() -> SseEmitter.event().comment("keep-alive")));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void broadcast(String name, ScoreStreamEvent payload) {
+        Supplier<SseEmitter.SseEventBuilder> event =
+                () -> SseEmitter.event().name(name).data(payload, MediaType.APPLICATION_JSON);
+        subscribers.forEach(subscriber -> subscriber.enqueue(event));
+    }
+
+    /**
+     * One connection and the events not yet written to it
+     */
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Supplier<SseEmitter.SseEventBuilder>> pending;
+        // Whether a sender task owns this subscriber; at most one does, so events go out in order
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean dropped;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        void enqueue(Supplier<SseEmitter.SseEventBuilder> event) {
+            if (dropped) {
+                return;
+            }
+            if (!pending.offer(event)) {
+                // Too far behind: stop buffering for it. The blocked sender completes the emitter once
+                // its write returns; completing here would wait for that write.
+                drop(queueSize + " events behind");
+            }
+            if (sending.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::sendPending);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down
+                    sending.set(false);
+                }
+            }
+        }
+
+        private void sendPending() {
+            do {
+                Supplier<SseEmitter.SseEventBuilder> event;
+                while ((event = pending.poll()) != null && !dropped) {
+                    try {
+                        emitter.send(event.get());
+                    } catch (IOException | IllegalStateException e) {
+                        // Client went away; the container reports the error and completes the emitter
+                        drop(e.getMessage());
+                        return;
+                    }
+                }
+                if (dropped) {
+                    emitter.complete();
+                    return;
+                }
+                sending.set(false);
+            } while (!pending.isEmpty() && sending.compareAndSet(false, true));
+        }
+
+        private void drop(String reason) {
+            if (!dropped) {
+                dropped = true;
+                subscribers.remove(this);
+                pending.clear();
+                log.debug("Dropped score stream subscriber: {}", reason);
+            }
+        }
+    }
+
+    // Null without a combined score (no evaluations yet), as in the department and org score responses
+    private static ScoreResult finalScore(DepartmentScoreResult result) {
+        if (result == null || result.getFinalCombinedScore() == null) {
+            return null;
+        }
+        return ScoreResult.builder()
+                .score(result.getFinalCombinedScore())
+                .level(result.getScoreLevel())
+                .color(result.getColor())
+                .percentage(result.getFinalPercentage())
+                .build();
+    }
+}
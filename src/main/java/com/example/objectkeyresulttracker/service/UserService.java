@@ -1,5 +1,6 @@
 package com.example.objectkeyresulttracker.service;
 
+import com.example.objectkeyresulttracker.dto.KeysetPage;
 import com.example.objectkeyresulttracker.dto.RegisterRequest;
 import com.example.objectkeyresulttracker.dto.UserDTO;
 import com.example.objectkeyresulttracker.entity.Department;
@@ -7,6 +8,7 @@ import com.example.objectkeyresulttracker.entity.User;
 import com.example.objectkeyresulttracker.repository.DepartmentRepository;
 import com.example.objectkeyresulttracker.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,7 +44,7 @@ public class UserService {
         // Find department if specified
         Department department = null;
         if (request.getDepartmentId() != null && !request.getDepartmentId().isEmpty()) {
-            department = departmentRepository.findById(request.getDepartmentId())
+            department = departmentRepository.findById(parseDepartmentId(request.getDepartmentId()))
                     .orElseThrow(() -> new IllegalArgumentException("Department not found"));
         }
 
@@ -88,6 +90,34 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One keyset page of users ordered by username, optionally limited to one department
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<UserDTO> getUsersPage(String cursor, int size, UUID departmentId) {
+        KeysetCursor.checkPageSize(size);
+        String afterUsername = KeysetCursor.decode(cursor, 1)[0];
+
+        List<User> users = userRepository.findPage(departmentId, afterUsername, Limit.of(size + 1));
+        boolean hasMore = users.size() > size;
+        if (hasMore) {
+            users = users.subList(0, size);
+        }
+
+        return KeysetPage.<UserDTO>builder()
+                .items(users.stream().map(this::convertToDTO).collect(Collectors.toList()))
+                .nextCursor(hasMore ? KeysetCursor.encode(users.get(users.size() - 1).getUsername()) : null)
+                .build();
+    }
+
+    private UUID parseDepartmentId(String departmentId) {
+        try {
+            return UUID.fromString(departmentId);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Department not found");
+        }
+    }
+
     /**
      * Convert User entity to DTO
      */
@@ -0,0 +1,39 @@
+package com.example.objectkeyresulttracker;
+
+import com.example.objectkeyresulttracker.entity.Department;
+import com.example.objectkeyresulttracker.entity.KeyResult;
+import com.example.objectkeyresulttracker.entity.Objective;
+
+/**
+ * Department fixtures shared by the integration tests
+ */
+public final class TestDepartments {
+
+    private TestDepartments() {
+    }
+
+    /**
+     * Unsaved department with one objective and two equally weighted higher-is-better key results
+     * on a 0 / 25 / 50 / 75 / 100 scale, both with actual value 0
+     */
+    public static Department withTwoKeyResults(String name) {
+        Department dept = Department.builder().name(name).build();
+        Objective obj = Objective.builder().name(name + " objective").weight(100).department(dept).build();
+        for (int i = 0; i < 2; i++) {
+            obj.getKeyResults().add(KeyResult.builder()
+                    .name("Key Result " + i)
+                    .metricType(KeyResult.MetricType.HIGHER_BETTER)
+                    .weight(50)
+                    .thresholdBelow(0.0)
+                    .thresholdMeets(25.0)
+                    .thresholdGood(50.0)
+                    .thresholdVeryGood(75.0)
+                    .thresholdExceptional(100.0)
+                    .actualValue("0")
+                    .objective(obj)
+                    .build());
+        }
+        dept.getObjectives().add(obj);
+        return dept;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.objectkeyresulttracker.benchmark;
+
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load against a running instance, for comparing platform and virtual request threads.
+ *
+ * Start the application twice on the same data, once plainly and once with
+ * {@code --spring.profiles.active=virtual-threads} (Java 21+), and run this against each:
+ * <pre>
+ * java -cp target/test-classes:target/classes:&lt;test classpath&gt; \
+ *     com.example.objectkeyresulttracker.benchmark.EndpointLoadComparison \
+ *     http://localhost:8080 admin admin123 200 30
+ * </pre>
+ * Arguments: base URL, username, password, concurrent clients, seconds per endpoint.
+ * Each client sends its next request as soon as the previous one completes;
+ * throughput and latency percentiles are printed per endpoint.
+ *
+ * Measured on Java 21.0.1 against the same copy of data/okrdb (2 departments, 23 key results)
+ * with 100 clients and 20 s per endpoint, load generator and server sharing one CPU, so indicative only:
+ * <pre>
+ * threads   endpoint            requests  errors  req/s   p50 ms   p95 ms   p99 ms
+ * platform  /api/departments         825       0   41.3   2374.1   3676.3   4840.5
+ * platform  /api/export/excel        197       0    9.9  11459.8  23244.8  26622.6
+ * virtual   /api/departments         786       0   39.3   1715.6   7616.9  10969.1
+ * virtual   /api/export/excel        265       0   13.3   9846.4  18170.5  19960.5
+ * </pre>
+ * On one CPU the department list is CPU-bound and gains nothing from virtual threads (its tail gets worse);
+ * the blocking Excel export serves about a third more requests with lower latencies.
+ */
+public class EndpointLoadComparison {
+
+    private static final List<String> ENDPOINTS = List.of("/api/departments", "/api/export/excel");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        String username = args.length > 1 ? args[1] : "admin";
+        String password = args.length > 2 ? args[2] : "admin123";
+        int clients = args.length > 3 ? Integer.parseInt(args[3]) : 200;
+        int seconds = args.length > 4 ? Integer.parseInt(args[4]) : 30;
+
+        HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(clients))
+                .build();
+        String token = login(http, baseUrl, username, password);
+
+        System.out.printf("%-22s %8s %8s %10s %8s %8s %8s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        for (String endpoint : ENDPOINTS) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofMinutes(2))
+                    .GET()
+                    .build();
+            run(http, request, clients, seconds).print(endpoint);
+        }
+        System.exit(0);
+    }
+
+    private static String login(HttpClient http, String baseUrl, String username, String password) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        String body = mapper.writeValueAsString(Map.of("username", username, "password", password));
+        HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode());
+        }
+        return mapper.readTree(response.body()).get("token").asString();
+    }
+
+    private static Result run(HttpClient http, HttpRequest request, int clients, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong errors = new AtomicLong();
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        for (int i = 0; i < clients; i++) {
+            pool.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        // Drain the body so the measurement includes the full response
+                        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies.add(System.nanoTime() - start);
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(seconds + 180L, TimeUnit.SECONDS);
+        return new Result(new ArrayList<>(latencies), errors.get(), seconds);
+    }
+
+    private record Result(List<Long> latencies, long errors, int seconds) {
+
+        void print(String endpoint) {
+            Collections.sort(latencies);
+            System.out.printf("%-22s %8d %8d %10.1f %8.1f %8.1f %8.1f%n",
+                    endpoint, latencies.size(), errors, (double) latencies.size() / seconds,
+                    percentile(0.50), percentile(0.95), percentile(0.99));
+        }
+
+        private double percentile(double p) {
+            if (latencies.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * latencies.size()) - 1;
+            return latencies.get(Math.max(0, index)) / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.objectkeyresulttracker.benchmark;
+
+import com.example.objectkeyresulttracker.entity.Evaluation;
+import com.example.objectkeyresulttracker.entity.EvaluationStatus;
+import com.example.objectkeyresulttracker.entity.ScoreLevel;
+import com.example.objectkeyresulttracker.repository.EvaluationRepository;
+import com.example.objectkeyresulttracker.repository.ScoreLevelRepository;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-only repositories backed by prepared data, so the scoring engine can be benchmarked
+ * without a database or a mocking framework on the hot path.
+ * Any method the scoring engine does not use throws {@link UnsupportedOperationException}.
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    static ScoreLevelRepository scoreLevels(List<ScoreLevel> levelsByDisplayOrder) {
+        return proxy(ScoreLevelRepository.class, (method, args) -> switch (method) {
+            case "findAllByOrderByDisplayOrderAsc", "findAll" -> levelsByDisplayOrder;
+            default -> unsupported(method);
+        });
+    }
+
+    /**
+     * @param submitted submitted evaluations by target id
+     */
+    static EvaluationRepository submittedEvaluations(Map<UUID, List<Evaluation>> submitted) {
+        return proxy(EvaluationRepository.class, (method, args) -> switch (method) {
+            case "findByTargetTypeAndTargetIdAndStatus" -> args[2] == EvaluationStatus.SUBMITTED
+                    ? submitted.getOrDefault((UUID) args[1], List.of())
+                    : List.of();
+            case "findByTargetTypeAndTargetIdInAndStatus" -> {
+                List<Evaluation> evaluations = new ArrayList<>();
+                if (args[2] == EvaluationStatus.SUBMITTED) {
+                    for (Object targetId : (Collection<?>) args[1]) {
+                        evaluations.addAll(submitted.getOrDefault((UUID) targetId, List.of()));
+                    }
+                }
+                yield evaluations;
+            }
+            default -> unsupported(method);
+        });
+    }
+
+    private static Object unsupported(String method) {
+        throw new UnsupportedOperationException(method);
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "toString" -> "InMemory" + type.getSimpleName();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> handler.handle(method.getName(), args);
+                }));
+    }
+
+    private interface Handler {
+        Object handle(String method, Object[] args);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.objectkeyresulttracker.benchmark;
+
+import com.example.objectkeyresulttracker.entity.ScoreLevel;
+import com.example.objectkeyresulttracker.service.ScoreLevelSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Score-to-level lookup: the original linear scan with per-call slug and color string work,
+ * against the binary search over the snapshot's lookup table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreLevelLookupBenchmark {
+
+    private static final int SCORES = 1024;
+
+    @Param({"5", "50"})
+    private int levelCount;
+
+    private List<ScoreLevel> levels;
+    private ScoreLevelSnapshot snapshot;
+    private double[] scores;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        levels = new ArrayList<>(levelCount);
+        for (int i = 0; i < levelCount; i++) {
+            levels.add(ScoreLevel.builder()
+                    .name("Level " + i)
+                    .scoreValue(3.0 + 2.0 * i / Math.max(1, levelCount - 1))
+                    .color(String.format("#%06x", i * 0x050505))
+                    .displayOrder(i)
+                    .isDefault(false)
+                    .build());
+        }
+        snapshot = ScoreLevelSnapshot.of(1, levels);
+
+        Random random = new Random(42);
+        scores = new double[SCORES];
+        for (int i = 0; i < SCORES; i++) {
+            scores[i] = 2.5 + random.nextDouble() * 3.0;
+        }
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        double score = nextScore();
+        String level = legacyLevelForScore(score);
+        blackhole.consume(level);
+        blackhole.consume(legacyColorForLevel(level));
+    }
+
+    @Benchmark
+    public void binarySearch(Blackhole blackhole) {
+        int level = snapshot.lookup(nextScore());
+        blackhole.consume(snapshot.getLookupSlug(level));
+        blackhole.consume(snapshot.getLookupColor(level));
+    }
+
+    private double nextScore() {
+        double score = scores[next];
+        next = (next + 1) & (SCORES - 1);
+        return score;
+    }
+
+    // Original ScoreCalculationService.getLevelForScore
+    private String legacyLevelForScore(double score) {
+        for (int i = levels.size() - 1; i >= 0; i--) {
+            if (score >= levels.get(i).getScoreValue()) {
+                return levels.get(i).getName().toLowerCase().replace(" ", "_");
+            }
+        }
+        return levels.get(0).getName().toLowerCase().replace(" ", "_");
+    }
+
+    // Original ScoreCalculationService.getColorForLevel
+    private String legacyColorForLevel(String level) {
+        String normalizedLevel = level.replace("_", " ");
+        for (ScoreLevel scoreLevel : levels) {
+            if (scoreLevel.getName().equalsIgnoreCase(normalizedLevel)) {
+                return scoreLevel.getColor();
+            }
+        }
+        return levels.get(0).getColor();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ScoreLevelLookupBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
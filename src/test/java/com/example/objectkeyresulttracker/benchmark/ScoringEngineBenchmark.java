@@ -0,0 +1,207 @@
+package com.example.objectkeyresulttracker.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import com.example.objectkeyresulttracker.entity.Department;
+import com.example.objectkeyresulttracker.entity.Evaluation;
+import com.example.objectkeyresulttracker.entity.EvaluationStatus;
+import com.example.objectkeyresulttracker.entity.EvaluatorType;
+import com.example.objectkeyresulttracker.entity.KeyResult;
+import com.example.objectkeyresulttracker.entity.Objective;
+import com.example.objectkeyresulttracker.entity.ScoreLevel;
+import com.example.objectkeyresulttracker.service.ScoreCalculationService;
+import com.example.objectkeyresulttracker.service.ScoreLevelRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the scoring engine over a synthetic organisation.
+ *
+ * Each operation scores the whole organisation at one level: every key result, every objective,
+ * every department, or every department combined with its submitted evaluations.
+ * Run with {@code mvn -Pbenchmark test}; the profile adds {@code -prof gc} for allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoringEngineBenchmark {
+
+    private static final int OBJECTIVES_PER_DEPARTMENT = 5;
+    private static final int KEY_RESULTS_PER_OBJECTIVE = 4;
+    private static final String[] GRADES = {"A", "B", "C", "D", "E"};
+
+    @Param({"10", "100", "1000", "10000"})
+    private int departmentCount;
+
+    @Param({"default", "custom"})
+    private String scoreLevels;
+
+    private ScoreCalculationService scoreService;
+    private List<Department> departments;
+    private List<Objective> objectives;
+    private List<KeyResult> keyResults;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Keep the engine's debug and info logging out of the measurement
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        Random random = new Random(42);
+        departments = new ArrayList<>(departmentCount);
+        objectives = new ArrayList<>();
+        keyResults = new ArrayList<>();
+        Map<UUID, List<Evaluation>> evaluations = new HashMap<>();
+
+        for (int d = 0; d < departmentCount; d++) {
+            Department department = Department.builder()
+                    .id(new UUID(0, d))
+                    .name("Department " + d)
+                    .build();
+
+            for (int o = 0; o < OBJECTIVES_PER_DEPARTMENT; o++) {
+                Objective objective = Objective.builder()
+                        .id(new UUID(1, objectives.size()))
+                        .name("Objective " + o)
+                        .weight(o == 0 ? 40 : 15)
+                        .department(department)
+                        .build();
+
+                for (int k = 0; k < KEY_RESULTS_PER_OBJECTIVE; k++) {
+                    KeyResult kr = keyResult(new UUID(2, keyResults.size()), random);
+                    kr.setObjective(objective);
+                    objective.getKeyResults().add(kr);
+                    keyResults.add(kr);
+                }
+                department.getObjectives().add(objective);
+                objectives.add(objective);
+            }
+
+            // Half of the departments have been evaluated by their director and by HR
+            if (d % 2 == 0) {
+                UUID targetId = department.getId();
+                evaluations.put(targetId, List.of(
+                        evaluation(targetId, EvaluatorType.DIRECTOR, 4.25 + random.nextInt(4) * 0.25, null),
+                        evaluation(targetId, EvaluatorType.HR, null, GRADES[random.nextInt(GRADES.length)])));
+            }
+            departments.add(department);
+        }
+
+        List<ScoreLevel> levels = "custom".equals(scoreLevels) ? customLevels() : List.of();
+        scoreService = new ScoreCalculationService(
+                new ScoreLevelRegistry(InMemoryRepositories.scoreLevels(levels)),
+                InMemoryRepositories.submittedEvaluations(evaluations));
+    }
+
+    @Benchmark
+    public void calculateKeyResultScore(Blackhole blackhole) {
+        for (KeyResult kr : keyResults) {
+            blackhole.consume(scoreService.calculateKeyResultScore(kr));
+        }
+    }
+
+    @Benchmark
+    public void calculateObjectiveScore(Blackhole blackhole) {
+        for (Objective objective : objectives) {
+            blackhole.consume(scoreService.calculateObjectiveScore(objective.getKeyResults()));
+        }
+    }
+
+    @Benchmark
+    public void calculateDepartmentScore(Blackhole blackhole) {
+        for (Department department : departments) {
+            blackhole.consume(scoreService.calculateDepartmentScore(department.getObjectives()));
+        }
+    }
+
+    @Benchmark
+    public void calculateDepartmentScoreWithEvaluations(Blackhole blackhole) {
+        for (Department department : departments) {
+            blackhole.consume(scoreService.calculateDepartmentScoreWithEvaluations(
+                    department.getId(), department.getObjectives()));
+        }
+    }
+
+    private static KeyResult keyResult(UUID id, Random random) {
+        KeyResult.MetricType type = KeyResult.MetricType.values()[random.nextInt(KeyResult.MetricType.values().length)];
+        KeyResult.KeyResultBuilder kr = KeyResult.builder()
+                .id(id)
+                .name("Key result " + id)
+                .metricType(type)
+                .weight(25);
+
+        switch (type) {
+            case HIGHER_BETTER -> kr
+                    .thresholdBelow(0.0).thresholdMeets(25.0).thresholdGood(50.0)
+                    .thresholdVeryGood(75.0).thresholdExceptional(100.0)
+                    .actualValue(String.valueOf(random.nextInt(120)));
+            case LOWER_BETTER -> kr
+                    .thresholdBelow(30.0).thresholdMeets(20.0).thresholdGood(15.0)
+                    .thresholdVeryGood(5.0).thresholdExceptional(0.0)
+                    .actualValue(String.valueOf(random.nextInt(40)));
+            case QUALITATIVE -> kr.actualValue(GRADES[random.nextInt(GRADES.length)]);
+        }
+        return kr.build();
+    }
+
+    private static Evaluation evaluation(UUID targetId, EvaluatorType type, Double numericRating, String letterRating) {
+        return Evaluation.builder()
+                .id(UUID.randomUUID())
+                .evaluatorType(type)
+                .targetType("DEPARTMENT")
+                .targetId(targetId)
+                .numericRating(numericRating)
+                .letterRating(letterRating)
+                .status(EvaluationStatus.SUBMITTED)
+                .build();
+    }
+
+    // Seven levels on a 1-7 scale with their own names and colors
+    private static List<ScoreLevel> customLevels() {
+        String[] names = {"Poor", "Weak", "Fair", "Solid", "Strong", "Excellent", "Outstanding"};
+        List<ScoreLevel> levels = new ArrayList<>(names.length);
+        for (int i = 0; i < names.length; i++) {
+            levels.add(ScoreLevel.builder()
+                    .id("level-" + i)
+                    .name(names[i])
+                    .scoreValue(1.0 + i)
+                    .color(String.format("#%02x%02x40", 200 - i * 25, 60 + i * 25))
+                    .displayOrder(i)
+                    .isDefault(false)
+                    .build());
+        }
+        return levels;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ScoringEngineBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.objectkeyresulttracker.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DepartmentIncludeTest {
+
+    @Test
+    void missingParameterIncludesEverything() {
+        assertEquals(DepartmentInclude.all(), DepartmentInclude.parse(null));
+    }
+
+    @Test
+    void emptyParameterIncludesNothing() {
+        assertTrue(DepartmentInclude.parse("").isEmpty());
+        assertTrue(DepartmentInclude.parse(" , ").isEmpty());
+    }
+
+    @Test
+    void keyResultsImplyObjectives() {
+        assertEquals(Set.of(DepartmentInclude.OBJECTIVES, DepartmentInclude.KEY_RESULTS),
+                DepartmentInclude.parse("keyResults"));
+        assertEquals(Set.of(DepartmentInclude.OBJECTIVES, DepartmentInclude.EVALUATIONS),
+                DepartmentInclude.parse(" evaluations, objectives "));
+    }
+
+    @Test
+    void unknownPartIsRejected() {
+        // Mapped to 400 Bad Request by GlobalExceptionHandler
+        assertThrows(IllegalArgumentException.class, () -> DepartmentInclude.parse("objectives,scores"));
+        assertThrows(IllegalArgumentException.class, () -> DepartmentInclude.parse("KeyResults"));
+    }
+}
@@ -0,0 +1,492 @@
+package com.example.objectkeyresulttracker.repository;
+
+import com.example.objectkeyresulttracker.controller.OkrController;
+import com.example.objectkeyresulttracker.controller.ScoreLevelController;
+import com.example.objectkeyresulttracker.dto.DepartmentDTO;
+import com.example.objectkeyresulttracker.dto.DepartmentInclude;
+import com.example.objectkeyresulttracker.dto.DepartmentSummaryDTO;
+import com.example.objectkeyresulttracker.dto.EvaluationCreateRequest;
+import com.example.objectkeyresulttracker.entity.Department;
+import com.example.objectkeyresulttracker.entity.DepartmentScore;
+import com.example.objectkeyresulttracker.entity.Evaluation;
+import com.example.objectkeyresulttracker.entity.EvaluationStatus;
+import com.example.objectkeyresulttracker.entity.EvaluatorType;
+import com.example.objectkeyresulttracker.entity.KeyResult;
+import com.example.objectkeyresulttracker.entity.Objective;
+import com.example.objectkeyresulttracker.entity.Role;
+import com.example.objectkeyresulttracker.entity.User;
+import com.example.objectkeyresulttracker.service.DepartmentScoreStore;
+import com.example.objectkeyresulttracker.service.EvaluationService;
+import com.example.objectkeyresulttracker.service.OkrService;
+import com.example.objectkeyresulttracker.service.ScoreLevelRegistry;
+import com.example.objectkeyresulttracker.service.ScoreLevelService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Verifies that loading the department → objective → key result tree, and scoring
+ * every department with its evaluations, issues a fixed number of SQL statements
+ * regardless of the department count; summaries without objectives do not load the tree
+ * at all. Deleting a department likewise does not depend on how many users and
+ * evaluations it has. A conditional request with the current entity tag is answered
+ * without any statement, and every committed write changes the tag.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DepartmentTreeQueryCountTest {
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private ObjectiveRepository objectiveRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EvaluationRepository evaluationRepository;
+    @Autowired
+    private DepartmentScoreRepository departmentScoreRepository;
+    @Autowired
+    private OkrService okrService;
+    @Autowired
+    private DepartmentScoreStore scoreStore;
+    @Autowired
+    private ScoreLevelRegistry scoreLevelRegistry;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EvaluationService evaluationService;
+    @Autowired
+    private ScoreLevelService scoreLevelService;
+    @Autowired
+    private OkrController okrController;
+    @Autowired
+    private ScoreLevelController scoreLevelController;
+
+    @Test
+    void departmentTreeLoadsInConstantNumberOfStatements() {
+        createDepartments(5);
+        long statementsForFew = countStatementsToLoadTree();
+
+        createDepartments(45);
+        long statementsForMany = countStatementsToLoadTree();
+
+        assertEquals(statementsForFew, statementsForMany);
+    }
+
+    @Test
+    void allDepartmentsAreScoredInConstantNumberOfStatements() {
+        User evaluator = createEvaluator();
+        evaluateDepartments(createDepartments(5), evaluator);
+        long statementsForFew = countStatementsToListDepartments();
+
+        evaluateDepartments(createDepartments(45), evaluator);
+        long statementsForMany = countStatementsToListDepartments();
+
+        assertEquals(statementsForFew, statementsForMany);
+    }
+
+    @Test
+    void streamedDepartmentsMatchTheList() {
+        evaluateDepartments(createDepartments(5), createEvaluator());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<DepartmentDTO> streamed = new ArrayList<>();
+        okrService.streamAllDepartments(DepartmentInclude.all(), streamed::add);
+
+        assertEquals(okrService.getAllDepartments(), streamed);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void streamedChunksRunInTheirOwnTransactions() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<UUID> ids = tx.execute(status -> createDepartments(150).stream().map(Department::getId).toList());
+        try {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+            List<Boolean> inTransaction = new ArrayList<>();
+
+            okrService.streamAllDepartments(DepartmentInclude.all(),
+                    department -> inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive()));
+
+            // The department rows, then one transaction per chunk of 100; none is open while writing
+            assertEquals(150, inTransaction.size());
+            assertFalse(inTransaction.contains(true));
+            assertEquals(3, statistics.getTransactionCount());
+        } finally {
+            ids.forEach(id -> tx.executeWithoutResult(status -> okrService.deleteDepartment(id)));
+        }
+    }
+
+    @Test
+    void departmentSummariesSkipTheTree() {
+        createDepartments(5);
+        long statementsForFew = countStatementsToSummarizeDepartments();
+
+        createDepartments(45);
+        long statementsForMany = countStatementsToSummarizeDepartments();
+
+        assertEquals(statementsForFew, statementsForMany);
+
+        List<DepartmentDTO> summaries = new ArrayList<>();
+        okrService.streamAllDepartments(DepartmentInclude.parse(""), summaries::add);
+        assertEquals(50, summaries.size());
+        assertNull(summaries.get(0).getObjectives());
+        assertNull(summaries.get(0).getHasAllEvaluations());
+    }
+
+    @Test
+    void departmentsWithoutEvaluationsDoNotReadThem() {
+        List<Department> departments = createDepartments(3);
+        evaluateDepartments(departments, createEvaluator());
+        long withEvaluations = countStatementsToStreamTrees(DepartmentInclude.all());
+        long withoutEvaluations = countStatementsToStreamTrees(DepartmentInclude.parse("objectives,keyResults"));
+
+        // Only the evaluation query is saved, and the partial scores are not cached
+        assertEquals(withEvaluations - 1, withoutEvaluations);
+        assertNull(scoreStore.find(departments.get(0).getId()));
+
+        List<DepartmentDTO> streamed = new ArrayList<>();
+        okrService.streamAllDepartments(DepartmentInclude.parse("objectives"), streamed::add);
+        assertEquals(okrService.getDepartment(departments.get(0).getId()).getScore(), streamed.stream()
+                .filter(dept -> dept.getId().equals(departments.get(0).getId()))
+                .findFirst()
+                .orElseThrow()
+                .getScore());
+        assertNull(streamed.get(0).getFinalScore());
+    }
+
+    @Test
+    void departmentSummaryListIsOneStatement() {
+        List<Department> departments = createDepartments(2);
+        departmentScoreRepository.save(DepartmentScore.builder()
+                .departmentId(departments.get(0).getId())
+                .automaticOkrScore(4.5)
+                .automaticOkrLevel("good")
+                .hasDirectorEvaluation(true)
+                .hasHrEvaluation(false)
+                .dirty(false)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // The second department has no score row and is served from the score store
+        okrService.getAllDepartments();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<DepartmentSummaryDTO> summaries = okrService.getDepartmentSummaries();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(2, summaries.size());
+        DepartmentSummaryDTO precomputed = summaries.stream()
+                .filter(summary -> summary.getId().equals(departments.get(0).getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(4.5, precomputed.getScore().getScore());
+        assertEquals(true, precomputed.getHasDirectorEvaluation());
+        assertFalse(precomputed.getHasAllEvaluations());
+    }
+
+    @Test
+    void departmentListDoesNotManageTreeEntities() {
+        createDepartments(5);
+        entityManager.flush();
+        entityManager.clear();
+        scoreStore.invalidateAll();
+
+        okrService.getAllDepartments();
+
+        Set<String> managed = entityManager.unwrap(Session.class).getStatistics().getEntityKeys().stream()
+                .map(key -> ((EntityKey) key).getEntityName())
+                .collect(Collectors.toSet());
+        assertFalse(managed.contains(Department.class.getName()));
+        assertFalse(managed.contains(Objective.class.getName()));
+        assertFalse(managed.contains(KeyResult.class.getName()));
+    }
+
+    @Test
+    void matchingTagAnswersNotModifiedWithoutStatements() {
+        UUID id = createDepartments(1).get(0).getId();
+        entityManager.flush();
+        String listTag = okrController.getAllDepartments(null, request(null)).getHeaders().getETag();
+        String departmentTag = okrController.getDepartment(id, null, request(null)).getHeaders().getETag();
+        String levelsTag = scoreLevelController.getAllScoreLevels(request(null)).getHeaders().getETag();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ServletWebRequest list = request(listTag);
+        ServletWebRequest summary = request(listTag);
+        ServletWebRequest department = request(departmentTag);
+        ServletWebRequest levels = request(levelsTag);
+
+        assertNull(okrController.getAllDepartments("objectives", list));
+        assertNull(okrController.getDepartmentSummaries(summary));
+        assertNull(okrController.getDepartment(id, null, department));
+        assertNull(scoreLevelController.getAllScoreLevels(levels));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        for (ServletWebRequest request : List.of(list, summary, department, levels)) {
+            assertEquals(HttpStatus.NOT_MODIFIED.value(), request.getResponse().getStatus());
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void tagsChangeWithEveryCommittedWrite() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Department dept = tx.execute(status -> createDepartments(1).get(0));
+        User evaluator = tx.execute(status -> createEvaluator());
+        UUID id = dept.getId();
+        UUID keyResult = dept.getObjectives().get(0).getKeyResults().get(0).getId();
+        try {
+            List<String> listTags = new ArrayList<>(List.of(okrService.getDepartmentsETag()));
+            List<String> departmentTags = new ArrayList<>(List.of(okrService.getDepartmentETag(id)));
+            List<String> levelTags = new ArrayList<>(List.of(scoreLevelService.getScoreLevelsETag()));
+            List<Runnable> writes = List.of(
+                    () -> okrService.updateKeyResultActualValue(keyResult, "90"),
+                    () -> evaluationService.createEvaluation(new EvaluationCreateRequest(
+                            "DEPARTMENT", id, EvaluatorType.DIRECTOR, null, 5, null, null), evaluator.getId()),
+                    () -> okrService.updateDepartment(id, DepartmentDTO.builder().name("Renamed").build()),
+                    scoreLevelService::resetToDefaults);
+
+            for (Runnable write : writes) {
+                tx.executeWithoutResult(status -> write.run());
+                listTags.add(okrService.getDepartmentsETag());
+                departmentTags.add(okrService.getDepartmentETag(id));
+                levelTags.add(scoreLevelService.getScoreLevelsETag());
+            }
+
+            assertEquals(listTags.size(), Set.copyOf(listTags).size());
+            assertEquals(departmentTags.size(), Set.copyOf(departmentTags).size());
+            // Score levels only change with the reset
+            assertEquals(1, Set.copyOf(levelTags.subList(0, 4)).size());
+            assertNotEquals(levelTags.get(3), levelTags.get(4));
+        } finally {
+            tx.executeWithoutResult(status -> {
+                okrService.deleteDepartment(id);
+                userRepository.deleteById(evaluator.getId());
+            });
+        }
+    }
+
+    @Test
+    void departmentDeleteIssuesConstantNumberOfStatements() {
+        User evaluator = createEvaluator();
+        List<Department> departments = createDepartments(2);
+        evaluateDepartments(departments, evaluator);
+        Department small = departments.get(0);
+        Department large = departments.get(1);
+        assignUsers(small, 1);
+        List<User> users = assignUsers(large, 20);
+
+        long statementsForSmall = countStatementsToDelete(small.getId());
+        long statementsForLarge = countStatementsToDelete(large.getId());
+
+        assertEquals(statementsForSmall, statementsForLarge);
+        assertFalse(departmentRepository.existsById(large.getId()));
+        assertEquals(0, objectiveRepository.count());
+        assertEquals(0, evaluationRepository.count());
+        assertNull(userRepository.findById(users.get(0).getId()).orElseThrow().getDepartment());
+    }
+
+    // GET request carrying If-None-Match when a tag is given
+    private static ServletWebRequest request(String etag) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/departments");
+        if (etag != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    private long countStatementsToDelete(UUID departmentId) {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        okrService.deleteDepartment(departmentId);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<User> assignUsers(Department dept, int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = createEvaluator();
+            user.setDepartment(dept);
+            users.add(user);
+        }
+        return users;
+    }
+
+    private long countStatementsToListDepartments() {
+        entityManager.flush();
+        entityManager.clear();
+
+        // Score every department from scratch, with score levels already loaded
+        scoreStore.invalidateAll();
+        scoreLevelRegistry.current();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        okrService.getAllDepartments();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long countStatementsToStreamTrees(Set<DepartmentInclude> include) {
+        entityManager.flush();
+        entityManager.clear();
+        scoreStore.invalidateAll();
+        scoreLevelRegistry.current();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        okrService.streamAllDepartments(include, department -> { });
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long countStatementsToSummarizeDepartments() {
+        entityManager.flush();
+        entityManager.clear();
+
+        // Scores already in the store: only department rows and their score rows are read
+        okrService.getAllDepartments();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        okrService.streamAllDepartments(DepartmentInclude.parse("evaluations"), department -> { });
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long countStatementsToLoadTree() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Department> departments = departmentRepository.findAllWithObjectives();
+        objectiveRepository.fetchAllDepartmentObjectivesWithKeyResults();
+
+        // Walk the whole tree the way the DTO mappers do
+        for (Department dept : departments) {
+            for (Objective obj : dept.getObjectives()) {
+                for (KeyResult kr : obj.getKeyResults()) {
+                    kr.getActualValue();
+                    kr.getObjective().getId();
+                }
+                obj.getDepartment().getId();
+            }
+        }
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Department> createDepartments(int count) {
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Department dept = Department.builder()
+                    .name("Department " + i)
+                    .build();
+
+            for (int j = 0; j < 3; j++) {
+                Objective obj = Objective.builder()
+                        .name("Objective " + j)
+                        .weight(30)
+                        .department(dept)
+                        .build();
+
+                for (int k = 0; k < 3; k++) {
+                    obj.getKeyResults().add(KeyResult.builder()
+                            .name("Key Result " + k)
+                            .metricType(KeyResult.MetricType.HIGHER_BETTER)
+                            .weight(30)
+                            .thresholdBelow(0.0)
+                            .thresholdMeets(25.0)
+                            .thresholdGood(50.0)
+                            .thresholdVeryGood(75.0)
+                            .thresholdExceptional(100.0)
+                            .actualValue(String.valueOf(k * 40))
+                            .objective(obj)
+                            .build());
+                }
+                dept.getObjectives().add(obj);
+            }
+            departments.add(departmentRepository.save(dept));
+        }
+        return departments;
+    }
+
+    private User createEvaluator() {
+        return userRepository.save(User.builder()
+                .username("evaluator-" + UUID.randomUUID())
+                .email(UUID.randomUUID() + "@example.com")
+                .password("secret")
+                .role(Role.DIRECTOR)
+                .build());
+    }
+
+    private void evaluateDepartments(List<Department> departments, User evaluator) {
+        for (Department dept : departments) {
+            evaluationRepository.save(Evaluation.builder()
+                    .evaluator(evaluator)
+                    .evaluatorType(EvaluatorType.DIRECTOR)
+                    .targetType("DEPARTMENT")
+                    .targetId(dept.getId())
+                    .numericRating(4.75)
+                    .status(EvaluationStatus.SUBMITTED)
+                    .build());
+            evaluationRepository.save(Evaluation.builder()
+                    .evaluator(evaluator)
+                    .evaluatorType(EvaluatorType.HR)
+                    .targetType("DEPARTMENT")
+                    .targetId(dept.getId())
+                    .letterRating("C")
+                    .status(EvaluationStatus.SUBMITTED)
+                    .build());
+        }
+    }
+}
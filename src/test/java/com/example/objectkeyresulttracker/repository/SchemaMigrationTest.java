@@ -0,0 +1,81 @@
+package com.example.objectkeyresulttracker.repository;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.h2.Driver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the Liquibase changelog against an empty database and against a copy of the
+ * committed data/okrdb, which predates the changelog and still has VARCHAR ids.
+ */
+class SchemaMigrationTest {
+
+    private static final String COUNTS = "select (select count(*) from department) + (select count(*) from objectives) "
+            + "+ (select count(*) from key_results) + (select count(*) from users) + (select count(*) from evaluations)";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void changelogCreatesSchemaOnEmptyDatabase() throws Exception {
+        JdbcTemplate jdbc = migrate(dataSource(dir.resolve("empty")));
+
+        assertEquals("UUID", columnType(jdbc, "DEPARTMENT", "ID"));
+        assertEquals(0, jdbc.queryForObject(COUNTS, Integer.class));
+    }
+
+    @Test
+    void changelogUpgradesExistingDatabaseInPlace() throws Exception {
+        Files.copy(Path.of("data", "okrdb.mv.db"), dir.resolve("existing.mv.db"));
+        DataSource dataSource = dataSource(dir.resolve("existing"));
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        int rowsBefore = jdbc.queryForObject(COUNTS, Integer.class);
+        int foreignKeysBefore = foreignKeyColumns(jdbc).size();
+        jdbc.update("update evaluations set status = 'DRAFT' where id = (select min(id) from evaluations)");
+
+        migrate(dataSource);
+
+        assertEquals(rowsBefore, jdbc.queryForObject(COUNTS, Integer.class));
+        assertEquals(foreignKeysBefore, foreignKeyColumns(jdbc).size());
+        assertEquals("UUID", columnType(jdbc, "DEPARTMENT", "ID"));
+        assertEquals("UUID", columnType(jdbc, "KEY_RESULTS", "OBJECTIVE_ID"));
+        assertEquals("UUID", columnType(jdbc, "DEPARTMENT_SCORES", "DEPARTMENT_ID"));
+        assertEquals(0, jdbc.queryForObject("select count(*) from evaluations where status = 'DRAFT'", Integer.class));
+    }
+
+    private static JdbcTemplate migrate(DataSource dataSource) throws Exception {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.xml");
+        liquibase.afterPropertiesSet();
+        return new JdbcTemplate(dataSource);
+    }
+
+    private static DataSource dataSource(Path file) {
+        return new SimpleDriverDataSource(new Driver(), "jdbc:h2:file:" + file.toAbsolutePath(), "sa", "");
+    }
+
+    private static String columnType(JdbcTemplate jdbc, String table, String column) {
+        return jdbc.queryForObject("select data_type from information_schema.columns "
+                + "where table_schema = 'PUBLIC' and table_name = ? and column_name = ?", String.class, table, column);
+    }
+
+    private static List<String> foreignKeyColumns(JdbcTemplate jdbc) {
+        return jdbc.queryForList("select kcu.table_name || '.' || kcu.column_name "
+                + "from information_schema.table_constraints tc "
+                + "join information_schema.key_column_usage kcu on kcu.constraint_name = tc.constraint_name "
+                + "where tc.constraint_type = 'FOREIGN KEY'", String.class);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.objectkeyresulttracker.repository;
+
+import com.example.objectkeyresulttracker.entity.Role;
+import com.example.objectkeyresulttracker.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Users are served from the second-level and query caches, and writes made through
+ * the repositories are visible to the next read.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void repeatedLookupsHitTheCacheAndSeeUpdates() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        String username = "cached-" + UUID.randomUUID();
+        UUID id = tx.execute(status -> userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("secret")
+                .fullName("Before")
+                .role(Role.EMPLOYEE)
+                .build()).getId());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        tx.executeWithoutResult(status -> userRepository.findByUsername(username).orElseThrow());
+        tx.executeWithoutResult(status -> userRepository.findByUsername(username).orElseThrow());
+        tx.executeWithoutResult(status -> userRepository.findById(id).orElseThrow());
+
+        assertTrue(statistics.getQueryCacheHitCount() >= 1);
+        assertTrue(statistics.getCacheRegionStatistics("users").getHitCount() >= 1);
+
+        tx.executeWithoutResult(status -> userRepository.findById(id).orElseThrow().setFullName("After"));
+
+        assertEquals("After", tx.execute(status -> userRepository.findByUsername(username).orElseThrow().getFullName()));
+        assertEquals("After", tx.execute(status -> userRepository.findById(id).orElseThrow().getFullName()));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.TestDepartments;
+import com.example.objectkeyresulttracker.dto.ActualValueBatchResult;
+import com.example.objectkeyresulttracker.dto.ActualValueBatchResult.Status;
+import com.example.objectkeyresulttracker.dto.ActualValueUpdate;
+import com.example.objectkeyresulttracker.entity.Department;
+import com.example.objectkeyresulttracker.entity.Objective;
+import com.example.objectkeyresulttracker.event.DepartmentChangedEvent;
+import com.example.objectkeyresulttracker.repository.DepartmentRepository;
+import com.example.objectkeyresulttracker.repository.KeyResultRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@RecordApplicationEvents
+class ActualValueBatchTest {
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private KeyResultRepository keyResultRepository;
+    @Autowired
+    private OkrService okrService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void appliesValidItemsAndReportsTheRest() {
+        Department dept = departmentRepository.save(TestDepartments.withTwoKeyResults("Operations"));
+        Objective obj = dept.getObjectives().get(0);
+        UUID first = obj.getKeyResults().get(0).getId();
+        UUID second = obj.getKeyResults().get(1).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        ActualValueBatchResult result = okrService.updateKeyResultActualValues(List.of(
+                new ActualValueUpdate(first, "80"),
+                new ActualValueUpdate(UUID.randomUUID(), "10"),
+                new ActualValueUpdate(second, "lots"),
+                new ActualValueUpdate(second, "55.5")));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(List.of(Status.UPDATED, Status.NOT_FOUND, Status.INVALID, Status.UPDATED),
+                result.getResults().stream().map(ActualValueBatchResult.Item::getStatus).toList());
+        assertEquals(2, result.getUpdated());
+        assertEquals(2, result.getFailed());
+        assertEquals("80", keyResultRepository.findById(first).orElseThrow().getActualValue());
+        assertEquals("55.5", keyResultRepository.findById(second).orElseThrow().getActualValue());
+
+        // Both key results belong to one department: it is rescored once
+        assertEquals(1, result.getDepartmentsAffected());
+        assertEquals(1, events.stream(DepartmentChangedEvent.class)
+                .filter(event -> dept.getId().equals(event.departmentId()))
+                .count());
+    }
+
+    @Test
+    void updatesAreFlushedAsOneJdbcBatch() {
+        Department dept = departmentRepository.save(TestDepartments.withTwoKeyResults("Logistics"));
+        Objective obj = dept.getObjectives().get(0);
+        entityManager.flush();
+        entityManager.clear();
+
+        okrService.updateKeyResultActualValues(List.of(
+                new ActualValueUpdate(obj.getKeyResults().get(0).getId(), "30"),
+                new ActualValueUpdate(obj.getKeyResults().get(1).getId(), "60")));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        entityManager.flush();
+
+        // Both updates share one prepared statement
+        assertEquals(2, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void nonFiniteValuesAreRejectedOnBothPaths() {
+        Department dept = departmentRepository.save(TestDepartments.withTwoKeyResults("Finance"));
+        UUID id = dept.getObjectives().get(0).getKeyResults().get(0).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> values = List.of("NaN", "Infinity", "-Infinity", "0x1p3", "1e400", "5d");
+        ActualValueBatchResult result = okrService.updateKeyResultActualValues(values.stream()
+                .map(value -> new ActualValueUpdate(id, value))
+                .toList());
+
+        assertEquals(0, result.getUpdated());
+        for (String value : values) {
+            assertThrows(IllegalArgumentException.class, () -> okrService.updateKeyResultActualValue(id, value));
+        }
+        assertEquals("1.5e2", okrService.updateKeyResultActualValue(id, "1.5e2").getActualValue());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.dto.DepartmentDTO;
+import com.example.objectkeyresulttracker.dto.KeysetPage;
+import com.example.objectkeyresulttracker.entity.Department;
+import com.example.objectkeyresulttracker.repository.DepartmentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DepartmentPageTest {
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private OkrService okrService;
+
+    @Test
+    void pagesWalkEveryMatchingDepartmentOnceInNameOrder() {
+        // Duplicate names are ordered by id
+        for (String name : List.of("Sales B", "Sales A", "Support", "Sales A", "Sales_C", "Finance", "Sales D")) {
+            departmentRepository.save(Department.builder().name(name).build());
+        }
+
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            KeysetPage<DepartmentDTO> page = okrService.getDepartmentsPage(cursor, 2, "Sales", null);
+            page.getItems().forEach(dept -> names.add(dept.getName()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(List.of("Sales A", "Sales A", "Sales B", "Sales D", "Sales_C"), names);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void prefixWildcardsAreMatchedLiterally() {
+        departmentRepository.save(Department.builder().name("Sales_C").build());
+        departmentRepository.save(Department.builder().name("SalesXC").build());
+
+        KeysetPage<DepartmentDTO> page = okrService.getDepartmentsPage(null, 10, "Sales_", null);
+
+        assertEquals(List.of("Sales_C"), page.getItems().stream().map(DepartmentDTO::getName).toList());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> okrService.getDepartmentsPage("not a cursor", 10, null, null));
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.TestDepartments;
+import com.example.objectkeyresulttracker.dto.DepartmentScoreRebuildResult;
+import com.example.objectkeyresulttracker.dto.ScoreTree;
+import com.example.objectkeyresulttracker.entity.Department;
+import com.example.objectkeyresulttracker.entity.DepartmentScore;
+import com.example.objectkeyresulttracker.repository.DepartmentRepository;
+import com.example.objectkeyresulttracker.repository.DepartmentScoreRepository;
+import com.example.objectkeyresulttracker.repository.EvaluationRepository;
+import com.example.objectkeyresulttracker.repository.ObjectiveRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Dirty marking and recomputation of the department_scores read model.
+ * Runs without a test transaction: rows are marked dirty only when a change commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DepartmentScoreServiceTest {
+
+    @Autowired
+    private DepartmentScoreService departmentScoreService;
+    @Autowired
+    private DepartmentScoreRepository departmentScoreRepository;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private ObjectiveRepository objectiveRepository;
+    @Autowired
+    private EvaluationRepository evaluationRepository;
+    @Autowired
+    private ScoreLevelRegistry scoreLevelRegistry;
+    @Autowired
+    private ScoreCalculationService scoreService;
+    @Autowired
+    private OkrService okrService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private TransactionTemplate tx;
+    private final List<UUID> departments = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @AfterEach
+    void deleteDepartments() {
+        departments.forEach(id -> tx.executeWithoutResult(status -> okrService.deleteDepartment(id)));
+    }
+
+    @Test
+    void keyResultChangeMarksTheRowDirtyWhenItCommits() {
+        UUID id = createScoredDepartment("Marketing");
+        UUID keyResult = firstKeyResult(id);
+
+        tx.executeWithoutResult(status -> {
+            okrService.updateKeyResultActualValue(keyResult, "80");
+            assertFalse(row(id).getDirty());
+        });
+        assertTrue(row(id).getDirty());
+
+        // A rolled back change leaves nothing to recompute
+        departmentScoreService.recomputeDirtyDepartments();
+        tx.executeWithoutResult(status -> {
+            okrService.updateKeyResultActualValue(keyResult, "10");
+            status.setRollbackOnly();
+        });
+        assertFalse(row(id).getDirty());
+    }
+
+    @Test
+    void recomputationStoresTheScoreAndClearsTheFlag() {
+        UUID id = createScoredDepartment("Sales");
+        tx.executeWithoutResult(status -> okrService.updateKeyResultActualValue(firstKeyResult(id), "80"));
+        long dirtyVersion = row(id).getVersion();
+
+        departmentScoreService.recomputeDirtyDepartments();
+
+        DepartmentScore row = row(id);
+        assertFalse(row.getDirty());
+        assertNotNull(row.getComputedAt());
+        assertEquals(dirtyVersion + 1, row.getVersion());
+        assertEquals(expectedScore(id), row.getAutomaticOkrScore());
+    }
+
+    @Test
+    void rowChangedDuringRecomputationStaysDirty() {
+        UUID id = createScoredDepartment("Support");
+        tx.executeWithoutResult(status -> okrService.updateKeyResultActualValue(firstKeyResult(id), "80"));
+        Double previousScore = row(id).getAutomaticOkrScore();
+
+        // Another change commits while the worker is scoring the batch it has read
+        ScoreCalculationService racingScores = new ScoreCalculationService(scoreLevelRegistry, evaluationRepository) {
+            @Override
+            public Map<UUID, ScoreTree> calculateDepartmentScoreTrees(Collection<Department> departments) {
+                tx.executeWithoutResult(status -> departmentScoreRepository.markDirty(id));
+                return super.calculateDepartmentScoreTrees(departments);
+            }
+        };
+        DepartmentScoreService racingService = new DepartmentScoreService(departmentScoreRepository,
+                departmentRepository, objectiveRepository, racingScores, scoreLevelRegistry,
+                transactionManager, eventPublisher);
+        ReflectionTestUtils.setField(racingService, "batchSize", 50);
+        long versionBefore = row(id).getVersion();
+
+        racingService.recomputeDirtyDepartments();
+
+        DepartmentScore row = row(id);
+        assertTrue(row.getDirty());
+        assertEquals(versionBefore + 1, row.getVersion());
+        assertEquals(previousScore, row.getAutomaticOkrScore());
+
+        departmentScoreService.recomputeDirtyDepartments();
+        assertFalse(row(id).getDirty());
+        assertEquals(expectedScore(id), row(id).getAutomaticOkrScore());
+    }
+
+    @Test
+    void startupCreatesRowsForDepartmentsWithoutOne() {
+        // Saved without publishing an event, as data loaded before the read model existed
+        UUID id = tx.execute(status -> departmentRepository.save(TestDepartments.withTwoKeyResults("Legal")).getId());
+        departments.add(id);
+        assertFalse(departmentScoreRepository.existsById(id));
+
+        departmentScoreService.createMissingRowsOnStartup();
+
+        assertTrue(row(id).getDirty());
+    }
+
+    @Test
+    void rebuildRecomputesEveryRow() {
+        UUID first = createScoredDepartment("Research");
+        UUID second = createScoredDepartment("Design");
+        tx.executeWithoutResult(status -> {
+            DepartmentScore stale = departmentScoreRepository.findById(second).orElseThrow();
+            stale.setAutomaticOkrScore(-1.0);
+        });
+
+        DepartmentScoreRebuildResult result = departmentScoreService.rebuildAll();
+
+        assertEquals(result.getDepartments(), result.getRecomputed());
+        assertTrue(result.getRecomputed() >= 2);
+        assertEquals(expectedScore(first), row(first).getAutomaticOkrScore());
+        assertEquals(expectedScore(second), row(second).getAutomaticOkrScore());
+        assertFalse(row(second).getDirty());
+    }
+
+    // Saved department whose score row has been created and recomputed once
+    private UUID createScoredDepartment(String name) {
+        UUID id = tx.execute(status -> departmentRepository.save(TestDepartments.withTwoKeyResults(name)).getId());
+        departments.add(id);
+        departmentScoreService.createMissingRowsOnStartup();
+        departmentScoreService.recomputeDirtyDepartments();
+        assertFalse(row(id).getDirty());
+        return id;
+    }
+
+    private UUID firstKeyResult(UUID departmentId) {
+        return tx.execute(status -> departmentRepository.findByIdWithObjectives(departmentId).orElseThrow()
+                .getObjectives().get(0).getKeyResults().get(0).getId());
+    }
+
+    private DepartmentScore row(UUID departmentId) {
+        return departmentScoreRepository.findById(departmentId).orElseThrow();
+    }
+
+    // Automatic score of the department as it is now, computed without the read model
+    private Double expectedScore(UUID departmentId) {
+        return tx.execute(status -> scoreService.calculateDepartmentScoreTree(
+                departmentRepository.findByIdWithObjectives(departmentId).orElseThrow())
+                .getScoreWithEvaluations().getAutomaticOkrScore());
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.dto.ScoreTree;
+import com.example.objectkeyresulttracker.repository.ScoreLevelRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DepartmentScoreStoreTest {
+
+    private static final UUID D1 = UUID.randomUUID();
+
+    private ScoreLevelRegistry registry;
+    private DepartmentScoreStore store;
+    private long levelVersion;
+
+    @BeforeEach
+    void setUp() {
+        ScoreLevelRepository scoreLevelRepository = mock(ScoreLevelRepository.class);
+        when(scoreLevelRepository.findAllByOrderByDisplayOrderAsc()).thenReturn(List.of());
+        registry = new ScoreLevelRegistry(scoreLevelRepository);
+        store = new DepartmentScoreStore(registry);
+        levelVersion = registry.current().getVersion();
+    }
+
+    @Test
+    void readKeepsScoresWhenNothingChanged() {
+        ScoreTree tree = tree();
+        store.store(D1, store.stamp(), levelVersion, tree);
+
+        assertSame(tree, store.find(D1));
+    }
+
+    @Test
+    void readStartedBeforeChangeDoesNotOverwriteNewerScores() {
+        long readStamp = store.stamp();
+
+        ScoreTree updated = tree();
+        store.update(D1, store.stamp(), levelVersion, updated);
+        store.store(D1, readStamp, levelVersion, tree());
+
+        assertSame(updated, store.find(D1));
+    }
+
+    @Test
+    void concurrentUpdatesFromSameBaseDropScores() {
+        long stamp = store.stamp();
+
+        store.update(D1, stamp, levelVersion, tree());
+        store.update(D1, stamp, levelVersion, tree());
+
+        assertNull(store.find(D1));
+    }
+
+    @Test
+    void invalidateAllRejectsReadsStartedBefore() {
+        long readStamp = store.stamp();
+
+        store.invalidateAll();
+        store.store(D1, readStamp, levelVersion, tree());
+
+        assertNull(store.find(D1));
+    }
+
+    @Test
+    void scoresForOtherLevelVersionAreIgnored() {
+        store.store(D1, store.stamp(), levelVersion, tree());
+        registry.refresh();
+
+        assertNull(store.find(D1));
+    }
+
+    @Test
+    void versionMovesOnlyWithCommittedChanges() {
+        long initial = store.version(D1);
+
+        store.store(D1, store.stamp(), levelVersion, tree());
+        assertEquals(initial, store.version(D1));
+
+        store.invalidate(D1);
+        long invalidated = store.version(D1);
+        assertTrue(invalidated > initial);
+
+        store.invalidateAll();
+        assertTrue(store.version(D1) > invalidated);
+    }
+
+    private static ScoreTree tree() {
+        return ScoreTree.builder().departmentId(D1).build();
+    }
+}
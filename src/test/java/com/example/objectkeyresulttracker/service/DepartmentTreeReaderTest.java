@@ -0,0 +1,79 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.dto.DepartmentRow;
+import com.example.objectkeyresulttracker.dto.KeyResultRow;
+import com.example.objectkeyresulttracker.dto.ObjectiveRow;
+import com.example.objectkeyresulttracker.entity.Department;
+import com.example.objectkeyresulttracker.repository.DepartmentRepository;
+import com.example.objectkeyresulttracker.repository.KeyResultRepository;
+import com.example.objectkeyresulttracker.repository.ObjectiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Rows committed between the department, objective and key result queries reference parents
+ * the earlier queries did not see; the tree is still assembled from what was read.
+ */
+class DepartmentTreeReaderTest {
+
+    private static final UUID D1 = UUID.randomUUID();
+    private static final UUID O1 = UUID.randomUUID();
+
+    private final List<DepartmentRow> departments = new ArrayList<>();
+    private final List<ObjectiveRow> objectives = new ArrayList<>();
+    private final List<KeyResultRow> keyResults = new ArrayList<>();
+    private DepartmentTreeReader reader;
+
+    @BeforeEach
+    void setUp() {
+        DepartmentRepository departmentRepository = mock(DepartmentRepository.class);
+        ObjectiveRepository objectiveRepository = mock(ObjectiveRepository.class);
+        KeyResultRepository keyResultRepository = mock(KeyResultRepository.class);
+        reader = new DepartmentTreeReader(departmentRepository, objectiveRepository, keyResultRepository);
+
+        departments.add(new DepartmentRow(D1, "Sales"));
+        objectives.add(new ObjectiveRow(O1, D1, "Grow", 100));
+        keyResults.add(keyResult(O1));
+
+        // Each query returns a copy, then a concurrent writer commits a new department with a
+        // child objective and key result before the next query runs
+        UUID d2 = UUID.randomUUID();
+        UUID o2 = UUID.randomUUID();
+        when(departmentRepository.findAllRows()).thenAnswer(invocation -> {
+            List<DepartmentRow> read = List.copyOf(departments);
+            departments.add(new DepartmentRow(d2, "Support"));
+            objectives.add(new ObjectiveRow(o2, d2, "Respond", 100));
+            return read;
+        });
+        when(objectiveRepository.findAllDepartmentObjectiveRows()).thenAnswer(invocation -> {
+            List<ObjectiveRow> read = List.copyOf(objectives);
+            keyResults.add(keyResult(o2));
+            keyResults.add(keyResult(UUID.randomUUID()));
+            return read;
+        });
+        when(keyResultRepository.streamAllDepartmentKeyResultRows())
+                .thenAnswer(invocation -> List.copyOf(keyResults).stream());
+    }
+
+    @Test
+    void readAllSkipsChildrenCommittedBetweenQueries() {
+        List<Department> tree = reader.readAll();
+
+        assertEquals(1, tree.size());
+        assertEquals(1, tree.get(0).getObjectives().size());
+        assertEquals(1, tree.get(0).getObjectives().get(0).getKeyResults().size());
+    }
+
+    private static KeyResultRow keyResult(UUID objectiveId) {
+        return new KeyResultRow(UUID.randomUUID(), objectiveId, "Revenue", null, null, null, 100,
+                null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.objectkeyresulttracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ETagsTest {
+
+    @Test
+    void sameVersionsGiveTheSameTag() {
+        assertEquals(ETags.of(3, 7), ETags.of(3, 7));
+        assertNotEquals(ETags.of(3, 7), ETags.of(3, 8));
+    }
+
+    @Test
+    void tagFromBeforeARestartDoesNotMatch() throws Exception {
+        // A fresh class loader stands in for a restarted process: versions start over, the epoch does not repeat
+        URL classes = ETags.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader restarted = new URLClassLoader(new URL[]{classes}, null)) {
+            Method of = restarted.loadClass(ETags.class.getName()).getDeclaredMethod("of", long[].class);
+            of.setAccessible(true);
+            assertNotEquals(ETags.of(3, 7), of.invoke(null, (Object) new long[]{3, 7}));
+        }
+    }
+}
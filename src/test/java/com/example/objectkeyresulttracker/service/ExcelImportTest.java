@@ -0,0 +1,129 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.TestDepartments;
+import com.example.objectkeyresulttracker.dto.ExcelImportResult;
+import com.example.objectkeyresulttracker.entity.Department;
+import com.example.objectkeyresulttracker.entity.KeyResult;
+import com.example.objectkeyresulttracker.entity.Objective;
+import com.example.objectkeyresulttracker.repository.DepartmentRepository;
+import com.example.objectkeyresulttracker.repository.KeyResultRepository;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * An exported workbook with edited "Факт" cells is read back and applied.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ExcelImportTest {
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private KeyResultRepository keyResultRepository;
+    @Autowired
+    private OkrService okrService;
+    @Autowired
+    private ExcelExportService excelExportService;
+    @Autowired
+    private ExcelImportService excelImportService;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void editedExportRoundTrips() throws Exception {
+        Department dept = departmentRepository.save(TestDepartments.withTwoKeyResults("Logistics"));
+        UUID first = dept.getObjectives().get(0).getKeyResults().get(0).getId();
+        UUID second = dept.getObjectives().get(0).getKeyResults().get(1).getId();
+
+        File xlsx = tempDir.resolve("okr.xlsx").toFile();
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(
+                excelExportService.exportToExcel(okrService.getAllDepartments())))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            int idCol = sheet.getRow(0).getLastCellNum() - 1;
+            for (Row row : sheet) {
+                if (row.getRowNum() == 0) {
+                    continue;
+                }
+                String id = row.getCell(idCol).getStringCellValue();
+                if (id.equals(first.toString())) {
+                    row.getCell(5).setCellValue(80);
+                } else if (id.equals(second.toString())) {
+                    row.getCell(5).setCellValue("lots");
+                }
+            }
+            // A row typed in by hand without an ID
+            sheet.createRow(sheet.getLastRowNum() + 1).createCell(5).setCellValue(10);
+            try (OutputStream out = new FileOutputStream(xlsx)) {
+                workbook.write(out);
+            }
+        }
+
+        ExcelImportResult result = excelImportService.importActualValues(xlsx);
+
+        assertEquals("80", keyResultRepository.findById(first).orElseThrow().getActualValue());
+        assertEquals("0", keyResultRepository.findById(second).orElseThrow().getActualValue());
+        assertEquals(1, result.getUpdated());
+        assertEquals(2, result.getFailed());
+        assertEquals(second, result.getErrors().get(0).getKeyResultId());
+        assertEquals(null, result.getErrors().get(1).getKeyResultId());
+    }
+
+    @Test
+    void uneditedExportChangesNothing() throws Exception {
+        Department dept = TestDepartments.withTwoKeyResults("Warehouse");
+        Objective obj = dept.getObjectives().get(0);
+        obj.getKeyResults().get(0).setActualValue(null);
+        obj.getKeyResults().add(KeyResult.builder()
+                .name("Service quality")
+                .metricType(KeyResult.MetricType.QUALITATIVE)
+                .weight(0)
+                .objective(obj)
+                .build());
+        dept = departmentRepository.save(dept);
+        UUID quantitative = dept.getObjectives().get(0).getKeyResults().get(0).getId();
+        UUID qualitative = dept.getObjectives().get(0).getKeyResults().get(2).getId();
+
+        File xlsx = tempDir.resolve("unedited.xlsx").toFile();
+        Files.write(xlsx.toPath(), excelExportService.exportToExcel(okrService.getAllDepartments()));
+
+        ExcelImportResult result = excelImportService.importActualValues(xlsx);
+
+        assertEquals(0, result.getUpdated());
+        assertEquals(result.getRowsRead(), result.getUnchanged());
+        assertEquals(0, result.getFailed());
+        assertNull(keyResultRepository.findById(quantitative).orElseThrow().getActualValue());
+        assertNull(keyResultRepository.findById(qualitative).orElseThrow().getActualValue());
+    }
+
+    @Test
+    void workbookWithoutExportHeadersIsRejected() throws Exception {
+        File xlsx = tempDir.resolve("other.xlsx").toFile();
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = new FileOutputStream(xlsx)) {
+            workbook.createSheet("Other").createRow(0).createCell(0).setCellValue("Something else");
+            workbook.write(out);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> excelImportService.importActualValues(xlsx));
+    }
+
+}
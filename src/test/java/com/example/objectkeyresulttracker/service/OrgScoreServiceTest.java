@@ -0,0 +1,175 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.TestDepartments;
+import com.example.objectkeyresulttracker.dto.DepartmentScoreResult;
+import com.example.objectkeyresulttracker.dto.DepartmentSummaryDTO;
+import com.example.objectkeyresulttracker.dto.OrgScoreDTO;
+import com.example.objectkeyresulttracker.dto.ScoreTree;
+import com.example.objectkeyresulttracker.entity.Department;
+import com.example.objectkeyresulttracker.entity.DepartmentScore;
+import com.example.objectkeyresulttracker.entity.Evaluation;
+import com.example.objectkeyresulttracker.entity.EvaluationStatus;
+import com.example.objectkeyresulttracker.entity.EvaluatorType;
+import com.example.objectkeyresulttracker.entity.Role;
+import com.example.objectkeyresulttracker.entity.User;
+import com.example.objectkeyresulttracker.repository.DepartmentRepository;
+import com.example.objectkeyresulttracker.repository.DepartmentScoreRepository;
+import com.example.objectkeyresulttracker.repository.EvaluationRepository;
+import com.example.objectkeyresulttracker.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The organisation rollup matches scoring every department from scratch, whether a department's
+ * scores come from its department_scores row, the score store or a fresh computation.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class OrgScoreServiceTest {
+
+    @Autowired
+    private OrgScoreService orgScoreService;
+    @Autowired
+    private OkrService okrService;
+    @Autowired
+    private ScoreCalculationService scoreService;
+    @Autowired
+    private DepartmentScoreStore scoreStore;
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private DepartmentScoreRepository departmentScoreRepository;
+    @Autowired
+    private EvaluationRepository evaluationRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void rollupMatchesDepartmentScoresFromEverySource() {
+        Department precomputed = createDepartment("Finance", "50", "100");
+        Department stored = createDepartment("Marketing", "20", "80");
+        Department computed = createDepartment("Operations", "100", "100");
+        evaluate(computed);
+        entityManager.flush();
+        entityManager.clear();
+
+        scoreStore.invalidateAll();
+        departmentScoreRepository.save(currentRow(precomputed.getId()));
+        okrService.getDepartment(stored.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        OrgScoreDTO org = orgScoreService.getOrgScore();
+
+        // Read from its row, so neither loaded nor stored; the third one was scored and stored
+        assertNull(scoreStore.find(precomputed.getId()));
+        assertNotNull(scoreStore.find(computed.getId()));
+
+        Map<UUID, ScoreTree> expected = departmentRepository.findAll().stream()
+                .map(dept -> departmentRepository.findByIdWithObjectives(dept.getId()).orElseThrow())
+                .collect(Collectors.toMap(Department::getId, scoreService::calculateDepartmentScoreTree));
+        Map<UUID, DepartmentSummaryDTO> summaries = org.getDepartments().stream()
+                .collect(Collectors.toMap(DepartmentSummaryDTO::getId, Function.identity()));
+        assertEquals(expected.keySet(), summaries.keySet());
+
+        List<Double> displayScores = new ArrayList<>();
+        List<Double> okrScores = new ArrayList<>();
+        List<Double> finalScores = new ArrayList<>();
+        expected.forEach((id, tree) -> {
+            DepartmentScoreResult result = tree.getScoreWithEvaluations();
+            DepartmentSummaryDTO summary = summaries.get(id);
+            assertEquals(tree.getDepartmentScore().getScore(), summary.getScore().getScore());
+            assertEquals(result.getFinalCombinedScore(),
+                    summary.getFinalScore() != null ? summary.getFinalScore().getScore() : null);
+
+            okrScores.add(tree.getDepartmentScore().getScore());
+            if (result.getFinalCombinedScore() != null) {
+                finalScores.add(result.getFinalCombinedScore());
+            }
+            double display = result.getFinalCombinedScore() != null
+                    ? result.getFinalCombinedScore()
+                    : tree.getDepartmentScore().getScore();
+            if (display > 0) {
+                displayScores.add(display);
+            }
+        });
+
+        assertEquals(scoreService.calculateAverageScore(okrScores), org.getOkrScore());
+        assertEquals(scoreService.calculateAverageScore(finalScores), org.getFinalScore());
+        assertEquals(scoreService.calculateAverageScore(displayScores), org.getScore());
+        assertEquals(expected.size(), org.getDepartmentCount());
+        assertEquals(finalScores.size(), org.getEvaluatedDepartmentCount());
+    }
+
+    private Department createDepartment(String name, String firstActual, String secondActual) {
+        Department dept = TestDepartments.withTwoKeyResults(name);
+        dept.getObjectives().get(0).getKeyResults().get(0).setActualValue(firstActual);
+        dept.getObjectives().get(0).getKeyResults().get(1).setActualValue(secondActual);
+        return departmentRepository.save(dept);
+    }
+
+    private void evaluate(Department dept) {
+        User evaluator = userRepository.save(User.builder()
+                .username("org-evaluator-" + UUID.randomUUID())
+                .email(UUID.randomUUID() + "@example.com")
+                .password("secret")
+                .role(Role.ADMIN)
+                .build());
+        evaluationRepository.save(Evaluation.builder()
+                .evaluator(evaluator)
+                .evaluatorType(EvaluatorType.DIRECTOR)
+                .targetType("DEPARTMENT")
+                .targetId(dept.getId())
+                .numericRating(4.75)
+                .status(EvaluationStatus.SUBMITTED)
+                .build());
+        evaluationRepository.save(Evaluation.builder()
+                .evaluator(evaluator)
+                .evaluatorType(EvaluatorType.HR)
+                .targetType("DEPARTMENT")
+                .targetId(dept.getId())
+                .letterRating("B")
+                .status(EvaluationStatus.SUBMITTED)
+                .build());
+    }
+
+    // Up-to-date department_scores row, as the background worker would have written it
+    private DepartmentScore currentRow(UUID departmentId) {
+        ScoreTree tree = scoreService.calculateDepartmentScoreTree(
+                departmentRepository.findByIdWithObjectives(departmentId).orElseThrow());
+        DepartmentScoreResult result = tree.getScoreWithEvaluations();
+        return DepartmentScore.builder()
+                .departmentId(departmentId)
+                .automaticOkrScore(result.getAutomaticOkrScore())
+                .automaticOkrPercentage(result.getAutomaticOkrPercentage())
+                .automaticOkrLevel(tree.getDepartmentScore().getLevel())
+                .automaticOkrColor(tree.getDepartmentScore().getColor())
+                .finalCombinedScore(result.getFinalCombinedScore())
+                .finalPercentage(result.getFinalPercentage())
+                .scoreLevel(result.getScoreLevel())
+                .color(result.getColor())
+                .hasDirectorEvaluation(result.getHasDirectorEvaluation())
+                .hasHrEvaluation(result.getHasHrEvaluation())
+                .hasBusinessBlockEvaluation(result.getHasBusinessBlockEvaluation())
+                .dirty(false)
+                .build();
+    }
+}
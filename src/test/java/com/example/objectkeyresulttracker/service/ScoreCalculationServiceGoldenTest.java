@@ -0,0 +1,178 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.dto.ScoreResult;
+import com.example.objectkeyresulttracker.entity.KeyResult;
+import com.example.objectkeyresulttracker.entity.ScoreLevel;
+import com.example.objectkeyresulttracker.repository.EvaluationRepository;
+import com.example.objectkeyresulttracker.repository.ScoreLevelRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Golden values recorded from the list-based quantitative scoring that preceded
+ * {@link QuantitativeScoringKernel}. The kernel must reproduce them exactly.
+ */
+class ScoreCalculationServiceGoldenTest {
+
+    @ParameterizedTest(name = "{0} {1} {7}")
+    @CsvSource({
+            // levels, type, below, meets, good, veryGood, exceptional, actual, score, level, color, percentage
+            "none, HIGHER_BETTER, 0, 25, 50, 75, 100, -5, 3.0, below, #d9534f, 0.0",
+            "none, HIGHER_BETTER, 0, 25, 50, 75, 100, 10, 3.5, below, #d9534f, 25.0",
+            "none, HIGHER_BETTER, 0, 25, 50, 75, 100, 37.5, 4.38, meets, #f0ad4e, 69.0",
+            "none, HIGHER_BETTER, 0, 25, 50, 75, 100, 60, 4.6, good, #5cb85c, 80.0",
+            "none, HIGHER_BETTER, 0, 25, 50, 75, 100, 90, 4.9, very_good, #28a745, 95.0",
+            "none, HIGHER_BETTER, 0, 25, 50, 75, 100, 150, 5.0, exceptional, #1e7b34, 100.0",
+            "none, LOWER_BETTER, 30, 20, 15, 5, 0, 40, 3.0, below, #d9534f, 0.0",
+            "none, LOWER_BETTER, 30, 20, 15, 5, 0, 25, 3.63, below, #d9534f, 31.5",
+            "none, LOWER_BETTER, 30, 20, 15, 5, 0, 17, 4.4, meets, #f0ad4e, 70.0",
+            "none, LOWER_BETTER, 30, 20, 15, 5, 0, 10, 4.63, good, #5cb85c, 81.5",
+            "none, LOWER_BETTER, 30, 20, 15, 5, 0, 2, 4.9, very_good, #28a745, 95.0",
+            "none, LOWER_BETTER, 30, 20, 15, 5, 0, -1, 5.0, exceptional, #1e7b34, 100.0",
+            "none, HIGHER_BETTER, , , , , , 30, 4.3, meets, #f0ad4e, 65.0",
+            "none, LOWER_BETTER, , , , , , 80, 4.0, below, #d9534f, 50.0",
+            "none, HIGHER_BETTER, 50, 65, 95, 100, 200, 64, 4.17, below, #d9534f, 58.5",
+            "none, HIGHER_BETTER, 10, 10, 20, 20, 30, 10, 4.25, meets, #f0ad4e, 62.5",
+            "none, HIGHER_BETTER, 10, 10, 20, 20, 30, 20, 4.75, very_good, #28a745, 87.5",
+            "five, HIGHER_BETTER, 0, 25, 50, 75, 100, 10, 3.5, below, #d9534f, 25.0",
+            "five, HIGHER_BETTER, 0, 25, 50, 75, 100, 37.5, 4.38, meets, #f0ad4e, 69.0",
+            "five, HIGHER_BETTER, 0, 25, 50, 75, 100, 90, 4.9, very_good, #28a745, 95.0",
+            "five, LOWER_BETTER, 30, 20, 15, 5, 0, 25, 3.63, below, #d9534f, 31.5",
+            "five, LOWER_BETTER, 30, 20, 15, 5, 0, 10, 4.63, good, #5cb85c, 81.5",
+            "five, LOWER_BETTER, 30, 20, 15, 5, 0, 0, 5.0, exceptional, #1e7b34, 100.0",
+            "five, HIGHER_BETTER, , , , , , 80, 4.8, very_good, #28a745, 90.0",
+            "five, LOWER_BETTER, , , , , , 30, 4.7, good, #5cb85c, 85.0",
+            "five, HIGHER_BETTER, 50, 65, 95, 100, 200, 97.5, 4.63, good, #5cb85c, 81.5",
+            "five, HIGHER_BETTER, 10, 10, 20, 20, 30, 25, 4.88, very_good, #28a745, 94.0",
+            "three, HIGHER_BETTER, 0, 25, 50, 75, 100, -5, 1.0, low, #111111, 0.0",
+            "three, HIGHER_BETTER, 0, 25, 50, 75, 100, 10, 1.4, low, #111111, 20.0",
+            "three, HIGHER_BETTER, 0, 25, 50, 75, 100, 37.5, 2.5, mid, #222222, 75.0",
+            "three, HIGHER_BETTER, 0, 25, 50, 75, 100, 60, 3.0, high, #333333, 100.0",
+            "three, LOWER_BETTER, 30, 20, 15, 5, 0, 25, 1.5, low, #111111, 25.0",
+            "three, LOWER_BETTER, 30, 20, 15, 5, 0, 17, 2.6, mid, #222222, 80.0",
+            "three, LOWER_BETTER, 30, 20, 15, 5, 0, 5, 3.0, high, #333333, 100.0",
+            "three, HIGHER_BETTER, , , , , , 30, 2.2, mid, #222222, 60.0",
+            "three, LOWER_BETTER, , , , , , 80, 1.8, low, #111111, 40.0",
+            "three, HIGHER_BETTER, 50, 65, 95, 100, 200, 64, 1.93, low, #111111, 46.5",
+            "three, HIGHER_BETTER, 10, 10, 20, 20, 30, 15, 2.5, mid, #222222, 75.0"
+    })
+    void quantitativeScoresMatchGoldenValues(String levels, KeyResult.MetricType type,
+                                             Double below, Double meets, Double good, Double veryGood, Double exceptional,
+                                             String actual, double score, String level, String color, double percentage) {
+        ScoreCalculationService service = serviceWithLevels(levels);
+        KeyResult kr = keyResult("kr-1", type, below, meets, good, veryGood, exceptional, actual);
+
+        assertResult(service.calculateKeyResultScore(kr), score, level, color, percentage);
+        // Second call is served from the prepared thresholds
+        assertResult(service.calculateKeyResultScore(kr), score, level, color, percentage);
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @CsvSource({
+            // levels, grade, score, level, color, percentage
+            "none, A, 5.0, exceptional, #1e7b34, 100.0",
+            "none, c, 4.5, good, #5cb85c, 75.0",
+            "none, ' D ', 4.25, meets, #f0ad4e, 62.5",
+            "none, , 3.0, below, #d9534f, 0.0",
+            "none, Z, 3.0, below, #d9534f, 0.0",
+            "five, B, 4.75, very_good, #28a745, 87.5",
+            "five, E, 3.0, below, #d9534f, 0.0",
+            "three, A, 5.0, exceptional, #111111, 200.0",
+            "three, E, 3.0, below, #111111, 100.0"
+    })
+    void qualitativeScoresMatchGoldenValues(String levels, String grade,
+                                            double score, String level, String color, double percentage) {
+        ScoreCalculationService service = serviceWithLevels(levels);
+        KeyResult kr = keyResult("kr-1", KeyResult.MetricType.QUALITATIVE, null, null, null, null, null, grade);
+
+        assertResult(service.calculateKeyResultScore(kr), score, level, color, percentage);
+    }
+
+    @Test
+    void changedThresholdsAreReprepared() {
+        ScoreCalculationService service = serviceWithLevels("five");
+        KeyResult kr = keyResult("kr-1", KeyResult.MetricType.HIGHER_BETTER, 0.0, 25.0, 50.0, 75.0, 100.0, "60");
+        assertResult(service.calculateKeyResultScore(kr), 4.6, "good", "#5cb85c", 80.0);
+
+        kr.setMetricType(KeyResult.MetricType.LOWER_BETTER);
+        kr.setThresholdBelow(30.0);
+        kr.setThresholdMeets(20.0);
+        kr.setThresholdGood(15.0);
+        kr.setThresholdVeryGood(5.0);
+        kr.setThresholdExceptional(0.0);
+        kr.setActualValue("10");
+        assertResult(service.calculateKeyResultScore(kr), 4.63, "good", "#5cb85c", 81.5);
+    }
+
+    private static void assertResult(ScoreResult result, double score, String level, String color, double percentage) {
+        assertEquals(score, result.getScore());
+        assertEquals(level, result.getLevel());
+        assertEquals(color, result.getColor());
+        assertEquals(percentage, result.getPercentage());
+    }
+
+    private static ScoreCalculationService serviceWithLevels(String levels) {
+        ScoreLevelRepository scoreLevelRepository = mock(ScoreLevelRepository.class);
+        when(scoreLevelRepository.findAllByOrderByDisplayOrderAsc()).thenReturn(levels(levels));
+        return new ScoreCalculationService(new ScoreLevelRegistry(scoreLevelRepository), mock(EvaluationRepository.class));
+    }
+
+    private static List<ScoreLevel> levels(String name) {
+        List<ScoreLevel> levels = new ArrayList<>();
+        switch (name) {
+            case "five" -> {
+                levels.add(level("Below", 3.0, "#d9534f", 0));
+                levels.add(level("Meets", 4.25, "#f0ad4e", 1));
+                levels.add(level("Good", 4.5, "#5cb85c", 2));
+                levels.add(level("Very Good", 4.75, "#28a745", 3));
+                levels.add(level("Exceptional", 5.0, "#1e7b34", 4));
+            }
+            case "three" -> {
+                levels.add(level("Low", 1.0, "#111111", 0));
+                levels.add(level("Mid", 2.0, "#222222", 1));
+                levels.add(level("High", 3.0, "#333333", 2));
+            }
+            default -> {
+                // No configured levels: default mapping
+            }
+        }
+        return levels;
+    }
+
+    private static ScoreLevel level(String name, double value, String color, int order) {
+        return ScoreLevel.builder()
+                .name(name)
+                .scoreValue(value)
+                .color(color)
+                .displayOrder(order)
+                .isDefault(false)
+                .build();
+    }
+
+    private static KeyResult keyResult(String id, KeyResult.MetricType type,
+                                       Double below, Double meets, Double good, Double veryGood, Double exceptional,
+                                       String actual) {
+        return KeyResult.builder()
+                .id(UUID.nameUUIDFromBytes(id.getBytes(StandardCharsets.UTF_8)))
+                .name("KR " + id)
+                .metricType(type)
+                .weight(100)
+                .thresholdBelow(below)
+                .thresholdMeets(meets)
+                .thresholdGood(good)
+                .thresholdVeryGood(veryGood)
+                .thresholdExceptional(exceptional)
+                .actualValue(actual)
+                .build();
+    }
+}
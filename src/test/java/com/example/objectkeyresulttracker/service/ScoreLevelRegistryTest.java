@@ -0,0 +1,57 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.event.ScoreLevelsChangedEvent;
+import com.example.objectkeyresulttracker.repository.ScoreLevelRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScoreLevelRegistryTest {
+
+    private ScoreLevelRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        ScoreLevelRepository scoreLevelRepository = mock(ScoreLevelRepository.class);
+        when(scoreLevelRepository.findAllByOrderByDisplayOrderAsc()).thenReturn(List.of());
+        registry = new ScoreLevelRegistry(scoreLevelRepository);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void refreshIsPendingFromBeforeCommitUntilTransactionCompletes() {
+        registry.onScoreLevelsCommitting(new ScoreLevelsChangedEvent());
+        assertTrue(registry.isRefreshPending());
+
+        // The AFTER_COMMIT reload runs here, still flagged
+        registry.onScoreLevelsChanged(new ScoreLevelsChangedEvent());
+        assertTrue(registry.isRefreshPending());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertFalse(registry.isRefreshPending());
+    }
+
+    @Test
+    void failedCommitClearsFlag() {
+        registry.onScoreLevelsCommitting(new ScoreLevelsChangedEvent());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertFalse(registry.isRefreshPending());
+    }
+}
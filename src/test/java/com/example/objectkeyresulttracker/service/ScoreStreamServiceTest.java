@@ -0,0 +1,158 @@
+package com.example.objectkeyresulttracker.service;
+
+import com.example.objectkeyresulttracker.dto.DepartmentScoreResult;
+import com.example.objectkeyresulttracker.dto.ScoreResult;
+import com.example.objectkeyresulttracker.dto.ScoreStreamEvent;
+import com.example.objectkeyresulttracker.dto.ScoreTree;
+import com.example.objectkeyresulttracker.event.KeyResultActualValueChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreStreamServiceTest {
+
+    private static final UUID DEPARTMENT = UUID.randomUUID();
+    private static final UUID OBJECTIVE = UUID.randomUUID();
+    private static final UUID KEY_RESULT = UUID.randomUUID();
+
+    private ExecutorService fanOut;
+    private ScoreStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        fanOut = Executors.newCachedThreadPool();
+        service = new ScoreStreamService(fanOut, 2);
+    }
+
+    @Test
+    void keyResultChangeIsPushedWithItsScores() throws InterruptedException {
+        RecordingEmitter subscriber = new RecordingEmitter(false);
+        service.register(subscriber);
+
+        service.onKeyResultActualValueChanged(keyResultChanged());
+        drain();
+
+        assertEquals(1, subscriber.events.size());
+        ScoreStreamEvent payload = payload(subscriber.events.get(0));
+        assertEquals(KEY_RESULT, payload.getKeyResultId());
+        assertEquals(4.5, payload.getKeyResultScore().getScore());
+        assertEquals(4.25, payload.getObjectiveScore().getScore());
+        // No evaluations yet: no final score, rather than an empty one
+        assertNull(payload.getFinalScore());
+    }
+
+    @Test
+    void failingSubscriberIsDroppedWithoutAffectingOthers() throws InterruptedException {
+        RecordingEmitter broken = new RecordingEmitter(true);
+        RecordingEmitter healthy = new RecordingEmitter(false);
+        service.register(broken);
+        service.register(healthy);
+
+        service.onKeyResultActualValueChanged(keyResultChanged());
+        drain();
+
+        assertEquals(1, healthy.events.size());
+        assertEquals(1, service.getSubscriberCount());
+    }
+
+    @Test
+    void stalledSubscriberOnlyHoldsUpItselfAndIsDroppedWhenItFallsBehind() throws InterruptedException {
+        StalledEmitter stalled = new StalledEmitter();
+        RecordingEmitter healthy = new RecordingEmitter(false);
+        service.register(stalled);
+        service.register(healthy);
+
+        // The stalled subscriber holds one event in its blocked write and two in its queue at most
+        for (int i = 1; i <= 4; i++) {
+            service.onKeyResultActualValueChanged(keyResultChanged());
+            awaitEvents(healthy, i);
+        }
+
+        assertEquals(1, service.getSubscriberCount());
+        stalled.release.countDown();
+        drain();
+        assertEquals(4, healthy.events.size());
+    }
+
+    private static void awaitEvents(RecordingEmitter emitter, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emitter.events.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, emitter.events.size());
+    }
+
+    private void drain() throws InterruptedException {
+        fanOut.shutdown();
+        assertTrue(fanOut.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    private static KeyResultActualValueChangedEvent keyResultChanged() {
+        ScoreTree scores = ScoreTree.builder()
+                .departmentId(DEPARTMENT)
+                .scoreWithEvaluations(DepartmentScoreResult.builder().scoreLevel("below").color("#f00").build())
+                .build();
+        scores.getKeyResultScores().put(KEY_RESULT, ScoreResult.builder().score(4.5).build());
+        scores.getObjectiveScores().put(OBJECTIVE, ScoreResult.builder().score(4.25).build());
+        return new KeyResultActualValueChangedEvent(DEPARTMENT, OBJECTIVE, KEY_RESULT, 0, 1, scores);
+    }
+
+    private static ScoreStreamEvent payload(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        return event.stream()
+                .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                .filter(ScoreStreamEvent.class::isInstance)
+                .map(ScoreStreamEvent.class::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final boolean failing;
+        private final List<Set<ResponseBodyEmitter.DataWithMediaType>> events = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingEmitter(boolean failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            events.add(builder.build());
+        }
+    }
+
+    // A client that stopped reading: the write blocks until the connection gives way
+    private static class StalledEmitter extends SseEmitter {
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("Write timed out");
+        }
+    }
+}